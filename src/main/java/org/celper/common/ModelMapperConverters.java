@@ -3,19 +3,171 @@ package org.celper.common;
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.modelmapper.AbstractConverter;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
+import java.util.function.Function;
 
 /**
  * The type Model mapper converters.
  */
 public final class ModelMapperConverters {
+    private static final StringToBoolean STRING_TO_BOOLEAN = new StringToBoolean();
+    private static final StringToDouble STRING_TO_DOUBLE = new StringToDouble();
+    private static final DoubleToDate DOUBLE_TO_DATE = new DoubleToDate();
+    private static final DoubleToLocalDateTime DOUBLE_TO_LOCAL_DATE_TIME = new DoubleToLocalDateTime();
+    private static final DoubleToLocalDate DOUBLE_TO_LOCAL_DATE = new DoubleToLocalDate();
+    private static final DoubleToLocalTime DOUBLE_TO_LOCAL_TIME = new DoubleToLocalTime();
+
     private ModelMapperConverters() {
         throw new IllegalStateException();
     }
 
+    /**
+     * Of function.
+     * 셀 값(Double, Boolean, String)을 대상 필드 타입으로 바꾸는 변환기를 한 번에 결정합니다.
+     * 변환할 수 없거나 빈 셀이면 null 을 반환하고, primitive 타입은 기본값(0, false)을 반환합니다.
+     *
+     * @param type the type
+     * @return the function
+     */
+    public static Function<Object, Object> of(Class<?> type) {
+        Function<Object, Object> converter = converter(type);
+        if (!type.isPrimitive()) {
+            return converter;
+        }
+        Object zero = zero(type);
+        return value -> {
+            Object converted = converter.apply(value);
+            return converted == null ? zero : converted;
+        };
+    }
+
+    private static Function<Object, Object> converter(Class<?> type) {
+        if (type == String.class) {
+            return value -> value instanceof String ? value : String.valueOf(value);
+        }
+        if (type == double.class || type == Double.class) {
+            return value -> toDouble(value);
+        }
+        if (type == int.class || type == Integer.class) {
+            return value -> isBlank(value) ? null : (int) toDouble(value).doubleValue();
+        }
+        if (type == long.class || type == Long.class) {
+            return value -> isBlank(value) ? null : (long) toDouble(value).doubleValue();
+        }
+        if (type == float.class || type == Float.class) {
+            return value -> isBlank(value) ? null : (float) toDouble(value).doubleValue();
+        }
+        if (type == short.class || type == Short.class) {
+            return value -> isBlank(value) ? null : (short) toDouble(value).doubleValue();
+        }
+        if (type == byte.class || type == Byte.class) {
+            return value -> isBlank(value) ? null : (byte) toDouble(value).doubleValue();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return ModelMapperConverters :: toBoolean;
+        }
+        if (type == char.class || type == Character.class) {
+            return value -> isBlank(value) ? null : String.valueOf(value).charAt(0);
+        }
+        if (type == BigDecimal.class) {
+            return value -> value instanceof Double ? BigDecimal.valueOf((Double) value) : parse(value, BigDecimal :: new);
+        }
+        if (type == BigInteger.class) {
+            return value -> value instanceof Double ? BigDecimal.valueOf((Double) value).toBigInteger() : parse(value, BigInteger :: new);
+        }
+        if (type == Date.class) {
+            return value -> value instanceof Double ? DOUBLE_TO_DATE.convert((Double) value) : parse(value, text -> Date.from(Instant.parse(text)));
+        }
+        if (type == Instant.class) {
+            return value -> value instanceof Double ? DOUBLE_TO_DATE.convert((Double) value).toInstant() : parse(value, Instant :: parse);
+        }
+        if (type == LocalDateTime.class) {
+            return value -> value instanceof Double ? DOUBLE_TO_LOCAL_DATE_TIME.convert((Double) value) : parse(value, LocalDateTime :: parse);
+        }
+        if (type == LocalDate.class) {
+            return value -> value instanceof Double ? DOUBLE_TO_LOCAL_DATE.convert((Double) value) : parse(value, LocalDate :: parse);
+        }
+        if (type == LocalTime.class) {
+            return value -> value instanceof Double ? DOUBLE_TO_LOCAL_TIME.convert((Double) value) : parse(value, LocalTime :: parse);
+        }
+        if (type.isEnum()) {
+            return value -> parse(value, name -> toEnum(type, name));
+        }
+        return value -> type.isInstance(value) ? value : null;
+    }
+
+    private static Double toDouble(Object value) {
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1.0 : 0.0;
+        }
+        return STRING_TO_DOUBLE.convert(String.valueOf(value).trim());
+    }
+
+    private static Boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Double) {
+            return (Double) value != 0.0;
+        }
+        return STRING_TO_BOOLEAN.convert(String.valueOf(value).trim());
+    }
+
+    private static boolean isBlank(Object value) {
+        return value == null || value instanceof String && ((String) value).trim().isEmpty();
+    }
+
+    private static Object parse(Object value, Function<String, Object> parser) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            return parser.apply(String.valueOf(value).trim());
+        } catch (IllegalArgumentException | DateTimeParseException ignored) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object toEnum(Class<?> type, String name) {
+        return Enum.valueOf((Class<? extends Enum>) type, name);
+    }
+
+    private static Object zero(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\u0000';
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        if (type == float.class) {
+            return 0.0f;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return (byte) 0;
+    }
+
     /**
      * The type String to boolean.
      */
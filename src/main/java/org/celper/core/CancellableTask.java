@@ -0,0 +1,128 @@
+package org.celper.core;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * The type Cancellable task.
+ * executor 에서 작업을 실행하고 {@link CompletableFuture} 로 돌려줍니다.
+ * 작업은 {@link #iterator} / {@link #outputStream} 으로 감싼 입력과 출력에서 취소 여부를 확인하며,
+ * 취소로 끝나면 cleanup 을 실행합니다.
+ */
+final class CancellableTask {
+    /**
+     * The constant CHECK_INTERVAL.
+     */
+    static final int CHECK_INTERVAL = 1024;
+
+    private CancellableTask() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Run completable future.
+     *
+     * @param executor the executor
+     * @param task     the task, 취소 확인에 사용할 future 를 받음
+     * @param cleanup  취소되었을 때 실행
+     * @return the completable future
+     */
+    static CompletableFuture<Void> run(Executor executor, Task task, Runnable cleanup) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (future.isCancelled()) {
+                cleanup.run();
+                return;
+            }
+            try {
+                task.run(future);
+                future.complete(null);
+            } catch (Throwable e) {
+                if (future.isCancelled()) {
+                    cleanup.run();
+                    return;
+                }
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Iterator iterator.
+     * {@link #CHECK_INTERVAL} 행마다 취소 여부를 확인합니다.
+     *
+     * @param <T>      the type parameter
+     * @param iterator the iterator
+     * @param future   the future
+     * @return the iterator
+     */
+    static <T> Iterator<T> iterator(Iterator<T> iterator, Future<?> future) {
+        return new Iterator<T>() {
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                if (++count % CHECK_INTERVAL == 0 && future.isCancelled()) {
+                    throw new CancellationException();
+                }
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * Output stream output stream.
+     * 쓰기마다 취소 여부를 확인합니다.
+     *
+     * @param outputStream the output stream
+     * @param future       the future
+     * @return the output stream
+     */
+    static OutputStream outputStream(OutputStream outputStream, Future<?> future) {
+        return new FilterOutputStream(outputStream) {
+            @Override
+            public void write(int b) throws IOException {
+                checkCancelled();
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                checkCancelled();
+                out.write(b, off, len);
+            }
+
+            private void checkCancelled() throws IOException {
+                if (future.isCancelled()) {
+                    throw new IOException(new CancellationException());
+                }
+            }
+        };
+    }
+
+    /**
+     * The interface Task.
+     */
+    @FunctionalInterface
+    interface Task {
+        /**
+         * Run.
+         *
+         * @param future the future
+         * @throws Exception the exception
+         */
+        void run(Future<?> future) throws Exception;
+    }
+}
@@ -1,17 +1,10 @@
 package org.celper.core;
 
 import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.RichTextString;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.celper.core.structure.ColumnStructure;
+import org.celper.core.structure.CellWriters;
 
-import java.lang.reflect.Field;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.Calendar;
-import java.util.Date;
 import java.util.Objects;
 import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
@@ -53,25 +46,16 @@ public final class CellUtils {
     }
 
     /**
-     * Sets value.
+     * Gets value.
+     * 셀을 새로 만들지 않고 읽기만 하며, 없는 셀은 빈 문자열을 반환합니다.
      *
-     * @param columnStructure the column structure
-     * @param cell            the cell
-     * @param o               the o
+     * @param row      the row
+     * @param colIndex the col index
+     * @return the value
      */
-    static void setValue(ColumnStructure columnStructure, Cell cell, Object o) {
-        try {
-            Field field = columnStructure.getStructure().getField();
-            field.setAccessible(true);
-            Object val = field.get(o);
-            val = val == null && columnStructure.isDefaultValueExists() ? columnStructure.getStructure().getDefaultValue() : val;
-            setValue(cell, val);
-        } catch (IllegalAccessException | IllegalArgumentException ignored) {
-        } catch (NullPointerException e) {
-            if (columnStructure.isDefaultValueExists()) {
-                setValue(cell, columnStructure.getStructure().getDefaultValue());
-            }
-        }
+    static Object getValue(Row row, int colIndex) {
+        Cell cell = row.getCell(colIndex);
+        return Objects.isNull(cell) ? "" : getValue(cell);
     }
 
     /**
@@ -81,27 +65,7 @@ public final class CellUtils {
      * @param o    the o
      */
     static void setValue(Cell cell, Object o) {
-        if (o instanceof Double) {
-            cell.setCellValue((double) o);
-        } else if (o instanceof Integer) {
-            cell.setCellValue((int) o);
-        } else if (o instanceof Long) {
-            cell.setCellValue((long) o);
-        } else if (o instanceof Boolean) {
-            cell.setCellValue((Boolean) o);
-        } else if (o instanceof RichTextString) {
-            cell.setCellValue((RichTextString) o);
-        } else if (o instanceof Date) {
-            cell.setCellValue((Date) o);
-        } else if (o instanceof Calendar) {
-            cell.setCellValue((Calendar) o);
-        } else if (o instanceof LocalDate) {
-            cell.setCellValue(LocalDateTime.of((LocalDate) o, LocalTime.NOON));
-        } else if (o instanceof LocalTime) {
-            cell.setCellValue(LocalDateTime.of(LocalDate.MIN, (LocalTime) o));
-        } else {
-            cell.setCellValue(String.valueOf(o));
-        }
+        CellWriters.setValue(cell, o);
     }
 
     /**
@@ -117,7 +81,7 @@ public final class CellUtils {
             case BOOLEAN:
                 return cell.getBooleanCellValue();
             case FORMULA:
-                return cell.getCachedFormulaResultType();
+                return getCachedFormulaValue(cell);
             case BLANK:
             case ERROR:
                 return "";
@@ -126,11 +90,17 @@ public final class CellUtils {
                 return cell.getStringCellValue();
         }
     }
-}
-
-
-
-
-
-
 
+    private static Object getCachedFormulaValue(Cell cell) {
+        switch (cell.getCachedFormulaResultType()) {
+            case NUMERIC:
+                return cell.getNumericCellValue();
+            case BOOLEAN:
+                return cell.getBooleanCellValue();
+            case STRING:
+                return cell.getStringCellValue();
+            default:
+                return "";
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package org.celper.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * The type Char output buffer.
+ * 재사용하는 char 배열에 문자열을 모으고, 일정 크기가 넘으면 writer 로 내보냅니다.
+ * 정수와 소수점 아래 {@value #MAX_FRACTION_DIGITS}자리 이하의 숫자는 중간 String 없이 기록하며,
+ * XML 파트용 이스케이프({@link #appendEscaped}, {@link #appendText})를 함께 제공합니다.
+ */
+final class CharOutputBuffer {
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+    private static final double MAX_EXACT_LONG = 1e15;
+    private static final int MAX_FRACTION_DIGITS = 6;
+    private static final long[] POW10 = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    private final Writer writer;
+    private final char[] digits = new char[20];
+    private char[] buffer = new char[FLUSH_THRESHOLD + 1024];
+    private int length;
+
+    /**
+     * Instantiates a new Char output buffer.
+     *
+     * @param writer the writer
+     */
+    CharOutputBuffer(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Append char output buffer.
+     *
+     * @param c the c
+     * @return the char output buffer
+     */
+    CharOutputBuffer append(char c) {
+        ensureCapacity(1);
+        buffer[length++] = c;
+        return this;
+    }
+
+    /**
+     * Append char output buffer.
+     *
+     * @param chars the chars
+     * @return the char output buffer
+     */
+    CharOutputBuffer append(char[] chars) {
+        ensureCapacity(chars.length);
+        System.arraycopy(chars, 0, buffer, length, chars.length);
+        length += chars.length;
+        return this;
+    }
+
+    /**
+     * Append char output buffer.
+     * 이스케이프하지 않으므로 마크업에만 사용합니다.
+     *
+     * @param value the value
+     * @return the char output buffer
+     */
+    CharOutputBuffer append(String value) {
+        ensureCapacity(value.length());
+        appendUnchecked(value);
+        return this;
+    }
+
+    /**
+     * Append escaped char output buffer.
+     *
+     * @param value the value
+     * @return the char output buffer
+     */
+    CharOutputBuffer appendEscaped(String value) {
+        ensureCapacity(value.length() * 6);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<':
+                    appendUnchecked("&lt;");
+                    break;
+                case '>':
+                    appendUnchecked("&gt;");
+                    break;
+                case '&':
+                    appendUnchecked("&amp;");
+                    break;
+                case '"':
+                    appendUnchecked("&quot;");
+                    break;
+                case '\t':
+                case '\n':
+                case '\r':
+                    buffer[length++] = c;
+                    break;
+                default:
+                    buffer[length++] = c < ' ' || c == '\uFFFE' || c == '\uFFFF' ? '?' : c; // XML 1.0 에 허용되지 않는 문자
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Append text element char output buffer.
+     * 앞뒤 공백이 있으면 xml:space="preserve" 를 붙입니다.
+     *
+     * @param value the value
+     * @return the char output buffer
+     */
+    CharOutputBuffer appendText(String value) {
+        boolean preserve = !value.isEmpty()
+                && (Character.isWhitespace(value.charAt(0)) || Character.isWhitespace(value.charAt(value.length() - 1)));
+        append(preserve ? "<t xml:space=\"preserve\">" : "<t>");
+        return appendEscaped(value).append("</t>");
+    }
+
+    /**
+     * Append number char output buffer.
+     * 정수와 소수점 아래 {@value #MAX_FRACTION_DIGITS}자리 안에서 정확히 표현되는 값(금액, 비율 등)은 자릿수를 바로 기록합니다.
+     * 그 밖의 값(0.1 + 0.2 처럼 자릿수가 긴 값, 아주 크거나 작은 값, NaN, 무한대)은 {@link Double#toString(double)} 을 사용하므로
+     * 셀마다 String 이 하나 만들어집니다.
+     *
+     * @param value the value
+     * @return the char output buffer
+     */
+    CharOutputBuffer appendNumber(double value) {
+        double abs = Math.abs(value);
+        if (value == (long) value && abs < MAX_EXACT_LONG) {
+            return appendLong((long) value);
+        }
+        for (int scale = 1; scale <= MAX_FRACTION_DIGITS && abs < MAX_EXACT_LONG / POW10[scale]; scale++) {
+            long scaled = Math.round(abs * POW10[scale]);
+            // 나눗셈은 정확히 반올림되므로, 같으면 이 소수 표기를 읽었을 때 같은 double 이 됨
+            if ((double) scaled / POW10[scale] == abs) {
+                return appendDecimal(value < 0, scaled, scale);
+            }
+        }
+        return append(Double.toString(value));
+    }
+
+    /**
+     * Append long char output buffer.
+     *
+     * @param value the value
+     * @return the char output buffer
+     */
+    CharOutputBuffer appendLong(long value) {
+        ensureCapacity(digits.length);
+        // Long.MIN_VALUE 는 양수로 바꿀 수 없으므로 음수 쪽에서 자릿수를 계산
+        boolean negative = value < 0;
+        long remaining = negative ? value : -value;
+        int pos = digits.length;
+        do {
+            digits[--pos] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (negative) {
+            digits[--pos] = '-';
+        }
+        int size = digits.length - pos;
+        System.arraycopy(digits, pos, buffer, length, size);
+        length += size;
+        return this;
+    }
+
+    private CharOutputBuffer appendDecimal(boolean negative, long scaled, int scale) {
+        if (negative) {
+            append('-');
+        }
+        appendLong(scaled / POW10[scale]);
+        long fraction = scaled % POW10[scale]; // 가장 작은 scale 부터 찾으므로 끝자리가 0 이 아님
+        ensureCapacity(scale + 1);
+        buffer[length++] = '.';
+        for (int i = length + scale - 1; i >= length; i--) {
+            buffer[i] = (char) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        length += scale;
+        return this;
+    }
+
+    /**
+     * Flush if needed.
+     */
+    void flushIfNeeded() {
+        if (length >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    /**
+     * Flush.
+     * 버퍼 내용을 writer 로 넘기기만 하고 writer 는 flush 하지 않습니다.
+     */
+    void flush() {
+        try {
+            writer.write(buffer, 0, length);
+            length = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendUnchecked(String value) {
+        value.getChars(0, value.length(), buffer, length);
+        length += value.length();
+    }
+
+    private void ensureCapacity(int size) {
+        if (length + size > buffer.length) {
+            flush();
+            if (size > buffer.length) {
+                buffer = new char[size];
+            }
+        }
+    }
+}
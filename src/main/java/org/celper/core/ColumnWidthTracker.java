@@ -0,0 +1,293 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.celper.core.structure.CellExtractor;
+import org.celper.core.structure.CellWriters;
+import org.celper.core.structure.ColumnStructure;
+import org.celper.core.structure.RowBuffer;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * The type Column width tracker.
+ * 셀에 기록하는 값으로 컬럼별 최대 글자 폭을 계산해 두었다가 한 번에 컬럼 너비를 설정합니다.
+ * 기록된 셀을 POI 에서 다시 읽지 않고, 병렬 기록은 추출된 {@link RowBuffer} 를, 순차 기록은 너비를 계산할 컬럼만
+ * 같은 extractor 로 꺼낸 값을 사용합니다.
+ * 폰트를 렌더링하지 않고 문자 수로 계산하며, 전각 문자(한글, 한자, 가나 등)는 두 칸으로 봅니다.
+ * 행이 다른 시트(rollover)에 기록되면 이전 시트의 너비를 먼저 적용합니다.
+ */
+final class ColumnWidthTracker {
+    private static final int MAX_WIDTH = 255;
+    private static final int PADDING = 2;
+    private static final int GENERAL_NUMBER_WIDTH = 11;
+
+    private final int[] columns;
+    private final int[] widths;
+    private final boolean applyOnGrowth;
+    private final NumberFormat[] numberFormats;
+    private final int[] headerWidths;
+    private final CellExtractor[] extractors;
+    private final RowBuffer buffer;
+    private Sheet sheet;
+
+    /**
+     * Instantiates a new Column width tracker.
+     *
+     * @param columnStructures the column structures
+     * @param applyOnGrowth    끝을 알 수 없는 경우 최대 폭이 늘어날 때마다 너비를 적용
+     */
+    ColumnWidthTracker(List<ColumnStructure> columnStructures, boolean applyOnGrowth) {
+        this.columns = IntStream.range(0, columnStructures.size())
+                .filter(colIdx -> columnStructures.get(colIdx).isAutoWidth())
+                .toArray();
+        this.widths = new int[this.columns.length];
+        this.applyOnGrowth = applyOnGrowth;
+        this.numberFormats = new NumberFormat[this.columns.length];
+        this.headerWidths = new int[this.columns.length];
+        this.extractors = new CellExtractor[this.columns.length];
+        for (int i = 0; i < this.columns.length; i++) {
+            ColumnStructure columnStructure = columnStructures.get(this.columns[i]);
+            this.numberFormats[i] = new NumberFormat(columnStructure.getDataAreaCellStyle());
+            this.headerWidths[i] = displayWidth(columnStructure.getStructure().getColumn().value());
+            this.extractors[i] = CellWriters.extractor(columnStructure.getStructure());
+        }
+        this.buffer = new RowBuffer(columnStructures.size());
+    }
+
+    /**
+     * Track header.
+     * 헤더는 컬럼 이름으로 기록되므로 미리 계산한 폭을 사용합니다.
+     *
+     * @param headerRow the header row
+     */
+    void trackHeader(Row headerRow) {
+        if (this.columns.length == 0) {
+            return;
+        }
+        switchSheet(headerRow.getSheet());
+        for (int i = 0; i < this.columns.length; i++) {
+            grow(i, this.headerWidths[i]);
+        }
+    }
+
+    /**
+     * Track.
+     * 너비를 계산할 컬럼만 모델에서 다시 꺼냅니다.
+     *
+     * @param row   the row
+     * @param model the model
+     */
+    void track(Row row, Object model) {
+        if (this.columns.length == 0) {
+            return;
+        }
+        for (int i = 0; i < this.columns.length; i++) {
+            this.extractors[i].extract(this.buffer, this.columns[i], model);
+        }
+        track(row, this.buffer);
+    }
+
+    /**
+     * Track.
+     *
+     * @param row    the row
+     * @param buffer 행에 기록한 값
+     */
+    void track(Row row, RowBuffer buffer) {
+        if (this.columns.length == 0) {
+            return;
+        }
+        switchSheet(row.getSheet());
+        for (int i = 0; i < this.columns.length; i++) {
+            grow(i, width(buffer, this.columns[i], this.numberFormats[i]));
+        }
+    }
+
+    /**
+     * Finish.
+     * 현재 시트에 너비를 적용합니다.
+     */
+    void finish() {
+        if (Objects.isNull(this.sheet)) {
+            return;
+        }
+        for (int i = 0; i < this.columns.length; i++) {
+            apply(i);
+        }
+        Arrays.fill(this.widths, 0);
+        this.sheet = null;
+    }
+
+    /**
+     * Display width int.
+     * 여러 줄이면 가장 긴 줄의 폭을 반환합니다.
+     *
+     * @param value the value
+     * @return the int
+     */
+    static int displayWidth(String value) {
+        int max = 0;
+        int width = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\n') {
+                max = Math.max(max, width);
+                width = 0;
+            } else if (!Character.isLowSurrogate(c)) {
+                width += isFullWidth(c) ? 2 : 1;
+            }
+        }
+        return Math.max(max, width);
+    }
+
+    private void switchSheet(Sheet rowSheet) {
+        if (this.sheet != rowSheet) {
+            if (Objects.isNull(this.sheet) || !this.sheet.getSheetName().equals(rowSheet.getSheetName())) {
+                finish(); // AUTO 워크북이 SXSSF 로 바뀐 경우는 같은 시트
+            }
+            this.sheet = rowSheet;
+        }
+    }
+
+    private void grow(int i, int width) {
+        if (width > this.widths[i]) {
+            this.widths[i] = width;
+            if (this.applyOnGrowth) {
+                apply(i);
+            }
+        }
+    }
+
+    private void apply(int i) {
+        int width = Math.min(this.widths[i] + PADDING, MAX_WIDTH);
+        this.sheet.setColumnWidth(this.columns[i], width * 256);
+    }
+
+    private static int width(RowBuffer buffer, int column, NumberFormat numberFormat) {
+        if (buffer.isString(column)) {
+            return displayWidth((String) buffer.getRef(column));
+        }
+        if (buffer.isNumeric(column)) {
+            return numberFormat.width(buffer.getNumber(column));
+        }
+        if (buffer.isBoolean(column)) {
+            return buffer.getNumber(column) != 0 ? 4 : 5;
+        }
+        return buffer.isBlank(column) ? 0 : objectWidth(buffer.getRef(column), numberFormat);
+    }
+
+    // CellWriters#setValue 로 기록되는 값. 날짜는 셀에 들어가는 일련번호로 계산
+    private static int objectWidth(Object value, NumberFormat numberFormat) {
+        if (value instanceof LocalDateTime) {
+            return numberFormat.width(DateUtil.getExcelDate((LocalDateTime) value));
+        }
+        if (value instanceof Date) {
+            return numberFormat.width(DateUtil.getExcelDate((Date) value));
+        }
+        if (value instanceof Calendar) {
+            return numberFormat.width(DateUtil.getExcelDate((Calendar) value, false));
+        }
+        if (value instanceof Number) {
+            return numberFormat.width(((Number) value).doubleValue());
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 4 : 5;
+        }
+        if (value instanceof RichTextString) {
+            return displayWidth(((RichTextString) value).getString());
+        }
+        return displayWidth(String.valueOf(value));
+    }
+
+    private static boolean isFullWidth(char c) {
+        return c >= '\u1100' && c <= '\u115F'            // 한글 자모
+                || c >= '\u2E80' && c <= '\uA4CF' && c != '\u303F' // CJK 부수, 가나, 한자
+                || c >= '\uAC00' && c <= '\uD7A3'        // 한글 음절
+                || c >= '\uF900' && c <= '\uFAFF'        // CJK 호환 한자
+                || c >= '\uFE30' && c <= '\uFE4F'
+                || c >= '\uFF00' && c <= '\uFF60'        // 전각 기호
+                || c >= '\uFFE0' && c <= '\uFFE6'
+                || Character.isHighSurrogate(c);         // 이모지, 확장 한자
+    }
+
+    // 컬럼 서식으로 숫자가 표시될 폭을 추정합니다. 날짜 서식은 서식 문자열 길이로 고정
+    private static final class NumberFormat {
+        private final boolean general;
+        private final int fixedWidth;
+        private final int decimals;
+        private final boolean grouping;
+        private final int literals;
+
+        private NumberFormat(CellStyle cellStyle) {
+            String format = Objects.isNull(cellStyle) ? null : cellStyle.getDataFormatString();
+            this.general = Objects.isNull(format) || "General".equalsIgnoreCase(format);
+            if (this.general) {
+                this.fixedWidth = -1;
+                this.decimals = 0;
+                this.grouping = false;
+                this.literals = 0;
+                return;
+            }
+            String section = format.split(";", -1)[0];
+            this.fixedWidth = DateUtil.isADateFormat(cellStyle.getDataFormat(), format) ? displayWidth(stripQuotes(section)) : -1;
+            int point = section.indexOf('.');
+            int decimals = 0;
+            for (int i = point + 1; point >= 0 && i < section.length() && isDigitPlaceholder(section.charAt(i)); i++) {
+                decimals++;
+            }
+            this.decimals = decimals;
+            this.grouping = section.indexOf(',') >= 0;
+            int literals = 0;
+            for (char c : stripQuotes(section).toCharArray()) {
+                if (!isDigitPlaceholder(c) && c != '.' && c != ',') {
+                    literals++;
+                }
+            }
+            this.literals = literals;
+        }
+
+        private int width(double value) {
+            if (this.fixedWidth >= 0) {
+                return this.fixedWidth;
+            }
+            double abs = Math.abs(value);
+            int sign = value < 0 ? 1 : 0;
+            if (this.general) {
+                if (abs == (long) abs && abs < 1e11) {
+                    return sign + digits((long) abs);
+                }
+                return Math.min(Double.toString(value).length(), GENERAL_NUMBER_WIDTH);
+            }
+            int intDigits = abs < 1e15 ? digits((long) abs) : GENERAL_NUMBER_WIDTH;
+            int groups = this.grouping ? (intDigits - 1) / 3 : 0;
+            return sign + intDigits + groups + (this.decimals > 0 ? this.decimals + 1 : 0) + this.literals;
+        }
+
+        private static boolean isDigitPlaceholder(char c) {
+            return c == '0' || c == '#' || c == '?';
+        }
+
+        private static String stripQuotes(String format) {
+            return format.replaceAll("\\[[^]]*]|[\"\\\\_*]", "");
+        }
+
+        private static int digits(long value) {
+            int digits = 1;
+            while (value >= 10) {
+                value /= 10;
+                digits++;
+            }
+            return digits;
+        }
+    }
+}
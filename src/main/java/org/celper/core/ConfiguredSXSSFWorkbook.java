@@ -0,0 +1,94 @@
+package org.celper.core;
+
+import org.apache.poi.xssf.model.SharedStringsTable;
+import org.apache.poi.xssf.streaming.GZIPSheetDataWriter;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * The type Configured sxssf workbook.
+ * {@link WorkbookOptions} 로 SXSSF 워크북을 만듭니다. 임시 디렉토리를 지정하면 POI 의 전역 TempFile 설정을 바꾸지 않고
+ * 이 워크북의 시트 데이터 파일만 그 디렉토리에 만듭니다.
+ */
+final class ConfiguredSXSSFWorkbook extends SXSSFWorkbook {
+    // 상위 생성자에서 기존 시트의 writer 를 만들 때는 아직 필드가 채워지지 않았으므로 생성 중인 설정을 스레드에 둡니다.
+    private static final ThreadLocal<Path> CREATING = new ThreadLocal<>();
+
+    private final Path tempDirectory;
+
+    private ConfiguredSXSSFWorkbook(XSSFWorkbook workbook, WorkbookOptions options) {
+        super(workbook, options.getRowAccessWindow(), options.isCompressTempFiles(), options.isSharedStrings());
+        this.tempDirectory = options.getTempDirectory();
+    }
+
+    /**
+     * Create sxssf workbook.
+     *
+     * @param workbook the workbook, 이미 있는 행은 그대로 두고 이후 행부터 내보냅니다.
+     * @param options  the options
+     * @return the sxssf workbook
+     */
+    static SXSSFWorkbook create(XSSFWorkbook workbook, WorkbookOptions options) {
+        if (Objects.isNull(options.getTempDirectory())) {
+            return new SXSSFWorkbook(workbook, options.getRowAccessWindow(), options.isCompressTempFiles(), options.isSharedStrings());
+        }
+        CREATING.set(options.getTempDirectory());
+        try {
+            return new ConfiguredSXSSFWorkbook(workbook, options);
+        } finally {
+            CREATING.remove();
+        }
+    }
+
+    @Override
+    protected SheetDataWriter createSheetDataWriter() throws IOException {
+        Path directory = Objects.nonNull(this.tempDirectory) ? this.tempDirectory : CREATING.get();
+        Files.createDirectories(directory);
+        Path previous = CREATING.get();
+        CREATING.set(directory); // SheetDataWriter 생성자 안에서 createTempFile 을 호출
+        try {
+            return isCompressTempFiles()
+                    ? new DirectoryGZIPSheetDataWriter(getSharedStringSource())
+                    : new DirectorySheetDataWriter(getSharedStringSource());
+        } finally {
+            if (Objects.isNull(previous)) {
+                CREATING.remove();
+            } else {
+                CREATING.set(previous);
+            }
+        }
+    }
+
+    private static File createTempFile(String suffix) throws IOException {
+        return File.createTempFile("poi-sxssf-sheet", suffix, CREATING.get().toFile());
+    }
+
+    private static final class DirectorySheetDataWriter extends SheetDataWriter {
+        private DirectorySheetDataWriter(SharedStringsTable sharedStringsTable) throws IOException {
+            super(sharedStringsTable);
+        }
+
+        @Override
+        public File createTempFile() throws IOException {
+            return ConfiguredSXSSFWorkbook.createTempFile(".xml");
+        }
+    }
+
+    private static final class DirectoryGZIPSheetDataWriter extends GZIPSheetDataWriter {
+        private DirectoryGZIPSheetDataWriter(SharedStringsTable sharedStringsTable) throws IOException {
+            super(sharedStringsTable);
+        }
+
+        @Override
+        public File createTempFile() throws IOException {
+            return ConfiguredSXSSFWorkbook.createTempFile(".gz");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.celper.core;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The type Counting output stream.
+ * 기록한 바이트 수를 셉니다. 배열 쓰기는 감싼 스트림에 그대로 넘깁니다.
+ */
+final class CountingOutputStream extends FilterOutputStream {
+    private long count;
+
+    /**
+     * Instantiates a new Counting output stream.
+     *
+     * @param out the out
+     */
+    CountingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        count += len;
+    }
+
+    /**
+     * Gets count.
+     *
+     * @return the count
+     */
+    long getCount() {
+        return count;
+    }
+}
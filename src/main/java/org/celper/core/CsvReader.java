@@ -0,0 +1,185 @@
+package org.celper.core;
+
+import org.celper.core.structure.ColumnStructure;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The type Csv reader.
+ * 엑셀 import 와 같은 규칙(importNameOptions, {@link ImportOptions} 의 헤더 탐색 범위)으로 헤더를 찾고
+ * 이후 레코드를 모델로 변환합니다. Reader 를 한 번만 읽으므로 csvToModel 은 한 번만 호출할 수 있습니다.
+ */
+public class CsvReader implements Closeable {
+    private final CsvTokenizer tokenizer;
+    private final StructureRegistrator structureRegistrator;
+
+    /**
+     * Instantiates a new Csv reader.
+     *
+     * @param reader the reader
+     */
+    public CsvReader(Reader reader) {
+        this(reader, CsvWriter.DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Instantiates a new Csv reader.
+     *
+     * @param reader    the reader
+     * @param delimiter the delimiter
+     */
+    public CsvReader(Reader reader, char delimiter) {
+        this(reader, delimiter, StructureRegistrator.getDefault());
+    }
+
+    /**
+     * Instantiates a new Csv reader.
+     *
+     * @param reader               the reader
+     * @param delimiter            the delimiter
+     * @param structureRegistrator the structure registrator
+     */
+    public CsvReader(Reader reader, char delimiter, StructureRegistrator structureRegistrator) {
+        if (delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("delimiter must not be a quote or line break");
+        }
+        this.tokenizer = new CsvTokenizer(reader, delimiter);
+        this.structureRegistrator = structureRegistrator;
+    }
+
+    /**
+     * Tsv csv reader.
+     *
+     * @param reader the reader
+     * @return the csv reader
+     */
+    public static CsvReader tsv(Reader reader) {
+        return new CsvReader(reader, '\t');
+    }
+
+    /**
+     * Csv to model stream.
+     *
+     * @param <T>   the type parameter
+     * @param clazz the clazz
+     * @return the stream
+     */
+    public <T> Stream<T> csvToModel(Class<T> clazz) {
+        return csvToModel(clazz, new ImportOptions());
+    }
+
+    /**
+     * Csv to model stream.
+     * stream 을 닫으면 reader 도 닫힙니다.
+     *
+     * @param <T>           the type parameter
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @return the stream
+     */
+    public <T> Stream<T> csvToModel(Class<T> clazz, ImportOptions importOptions) {
+        importOptions.requireSequential();
+        Iterator<T> iterator = new ModelIterator<>(clazz, importOptions);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.tokenizer.close();
+    }
+
+    private List<ColumnStructure> createColumnStructures(Class<?> clazz) {
+        return this.structureRegistrator.getOrDefault(clazz)
+                .stream()
+                .map(ColumnStructure::new)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private final class ModelIterator<T> implements Iterator<T> {
+        private final ImportMapper<T> importMapper;
+        private final Deque<String[]> bufferedRows;
+        private final IntFunction<Object> currentRow;
+        private String[] bufferedRow;
+        private boolean hasCurrent;
+
+        private ModelIterator(Class<T> clazz, ImportOptions importOptions) {
+            this.bufferedRows = new ArrayDeque<>();
+            this.currentRow = tokenizer :: get;
+
+            HeaderResolver headerResolver = new HeaderResolver(createColumnStructures(clazz));
+            Map<Integer, String[]> scannedRows = new LinkedHashMap<>();
+            boolean hasRow = false;
+            while (!headerResolver.isResolved() && (hasRow = tokenizer.next()) && tokenizer.getRowIndex() < importOptions.getScanRowEnd()) {
+                if (importOptions.isScanRow(tokenizer.getRowIndex())) {
+                    for (int colIdx = 0; colIdx < tokenizer.size(); colIdx++) {
+                        headerResolver.accept(tokenizer.getRowIndex(), colIdx, tokenizer.get(colIdx));
+                    }
+                }
+                scannedRows.put(tokenizer.getRowIndex(), tokenizer.getValues());
+                hasRow = false;
+            }
+            int startRow = headerResolver.getStartRow("csv");
+            this.importMapper = ImportMapper.compile(clazz, headerResolver.getImportStructures());
+            scannedRows.forEach((rowIdx, values) -> {
+                if (rowIdx >= startRow) {
+                    this.bufferedRows.add(values);
+                }
+            });
+            this.hasCurrent = hasRow && tokenizer.getRowIndex() >= startRow; // 탐색 범위를 벗어나서 읽힌 행
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.bufferedRow != null) {
+                return true;
+            }
+            if (!this.bufferedRows.isEmpty()) {
+                this.bufferedRow = this.bufferedRows.poll();
+                return true;
+            }
+            if (this.hasCurrent) {
+                return true;
+            }
+            this.hasCurrent = tokenizer.next();
+            return this.hasCurrent;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (this.bufferedRow != null) {
+                String[] values = this.bufferedRow;
+                this.bufferedRow = null;
+                return this.importMapper.map(colIdx -> colIdx < values.length ? values[colIdx] : "");
+            }
+            this.hasCurrent = false;
+            return this.importMapper.map(this.currentRow);
+        }
+    }
+}
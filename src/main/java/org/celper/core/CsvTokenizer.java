@@ -0,0 +1,196 @@
+package org.celper.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * The type Csv tokenizer.
+ * Reader 를 char 배열로 읽으면서 한 레코드씩 필드로 나눕니다. RFC 4180 의 따옴표 규칙(줄바꿈, "" 이스케이프)을 따르고,
+ * 필드 문자열 외에는 레코드마다 새로 만드는 객체가 없습니다.
+ */
+final class CsvTokenizer implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String EMPTY = "";
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean started;
+    private char[] field = new char[256];
+    private int fieldLength;
+    private String[] values = new String[16];
+    private int size;
+    private int rowIndex = -1;
+    private boolean blankLine;
+
+    /**
+     * Instantiates a new Csv tokenizer.
+     *
+     * @param reader    the reader
+     * @param delimiter the delimiter
+     */
+    CsvTokenizer(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Next boolean.
+     * 빈 줄은 건너뛰지만 행 번호는 증가합니다.
+     *
+     * @return 읽은 레코드가 있으면 true
+     */
+    boolean next() {
+        while (readRecord()) {
+            rowIndex++;
+            if (!blankLine) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets row index.
+     *
+     * @return the row index
+     */
+    int getRowIndex() {
+        return rowIndex;
+    }
+
+    /**
+     * Size int.
+     *
+     * @return the int
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get string.
+     *
+     * @param colIdx the col idx
+     * @return 범위를 벗어나면 ""
+     */
+    String get(int colIdx) {
+        return colIdx < size ? values[colIdx] : EMPTY;
+    }
+
+    /**
+     * Gets values.
+     *
+     * @return 현재 레코드의 복사본
+     */
+    String[] getValues() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean readRecord() {
+        size = 0;
+        fieldLength = 0;
+        if (!fill()) {
+            return false;
+        }
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        blankLine = true;
+        while (true) {
+            if (position == limit && !fill()) {
+                addField();
+                return true;
+            }
+            char c = buffer[position++];
+            if (quoted) {
+                if (c != '"') {
+                    appendChar(c);
+                } else if (peek() == '"') {
+                    position++;
+                    appendChar('"');
+                } else {
+                    quoted = false;
+                }
+            } else if (c == delimiter) {
+                addField();
+                wasQuoted = false;
+                blankLine = false;
+            } else if (c == '\n') {
+                addField();
+                return true;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    position++;
+                }
+                addField();
+                return true;
+            } else if (c == '"' && fieldLength == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+                blankLine = false;
+            } else {
+                appendChar(c);
+            }
+        }
+    }
+
+    private int peek() {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() {
+        if (position < limit) {
+            return true;
+        }
+        try {
+            int read;
+            do {
+                read = reader.read(buffer, 0, buffer.length);
+            } while (read == 0);
+            if (read < 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            if (!started) {
+                started = true;
+                if (buffer[0] == '\uFEFF') { // BOM
+                    position = 1;
+                    return fill();
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendChar(char c) {
+        blankLine = false;
+        if (fieldLength == field.length) {
+            field = Arrays.copyOf(field, field.length * 2);
+        }
+        field[fieldLength++] = c;
+    }
+
+    private void addField() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = fieldLength == 0 ? EMPTY : new String(field, 0, fieldLength);
+        fieldLength = 0;
+    }
+}
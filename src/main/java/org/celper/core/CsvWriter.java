@@ -0,0 +1,284 @@
+package org.celper.core;
+
+import org.celper.core.structure.ColumnStructure;
+import org.celper.core.structure.FieldAccessor;
+import org.celper.core.structure.Structure;
+import org.celper.exception.DataListEmptyException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The type Csv writer.
+ * 엑셀과 같은 {@link org.celper.annotation.Column} 정보(헤더명, priority 순서, {@link org.celper.annotation.DefaultValue})로
+ * CSV/TSV 를 기록합니다. 셀 값은 재사용하는 char 버퍼에 바로 쓰므로 POI 를 거치지 않습니다.
+ * 날짜/시간은 ISO-8601 문자열로 기록해서 {@link CsvReader} 로 다시 읽을 수 있습니다.
+ */
+public class CsvWriter implements Closeable {
+    /**
+     * The constant DEFAULT_DELIMITER.
+     */
+    public static final char DEFAULT_DELIMITER = ',';
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+    private final char delimiter;
+    private final StructureRegistrator structureRegistrator;
+    private final CharOutputBuffer buffer;
+
+    /**
+     * Instantiates a new Csv writer.
+     *
+     * @param writer the writer
+     */
+    public CsvWriter(Writer writer) {
+        this(writer, DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Instantiates a new Csv writer.
+     *
+     * @param writer    the writer
+     * @param delimiter the delimiter
+     */
+    public CsvWriter(Writer writer, char delimiter) {
+        this(writer, delimiter, StructureRegistrator.getDefault());
+    }
+
+    /**
+     * Instantiates a new Csv writer.
+     *
+     * @param writer               the writer
+     * @param delimiter            the delimiter
+     * @param structureRegistrator the structure registrator
+     */
+    public CsvWriter(Writer writer, char delimiter, StructureRegistrator structureRegistrator) {
+        if (delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("delimiter must not be a quote or line break");
+        }
+        this.writer = writer;
+        this.delimiter = delimiter;
+        this.structureRegistrator = structureRegistrator;
+        this.buffer = new CharOutputBuffer(writer);
+    }
+
+    /**
+     * Tsv csv writer.
+     *
+     * @param writer the writer
+     * @return the csv writer
+     */
+    public static CsvWriter tsv(Writer writer) {
+        return new CsvWriter(writer, '\t');
+    }
+
+    /**
+     * Model to csv.
+     *
+     * @param <T>   the type parameter
+     * @param clazz the clazz
+     * @param model the model
+     */
+    public <T> void modelToCsv(Class<T> clazz, Stream<T> model) {
+        try (Stream<T> stream = model) {
+            modelToCsv(header -> false, clazz, stream.iterator());
+        }
+    }
+
+    /**
+     * Model to csv.
+     *
+     * @param <T>   the type parameter
+     * @param clazz the clazz
+     * @param model the model
+     */
+    public <T> void modelToCsv(Class<T> clazz, Iterator<T> model) {
+        modelToCsv(header -> false, clazz, model);
+    }
+
+    /**
+     * Model to csv.
+     * 헤더 한 줄과 모델마다 한 줄을 기록합니다. 여러 번 호출하면 이어서 기록합니다.
+     *
+     * @param <T>            the type parameter
+     * @param excludedHeader the excluded header
+     * @param clazz          the clazz
+     * @param model          the model
+     */
+    public <T> void modelToCsv(Predicate<String> excludedHeader, Class<T> clazz, Iterator<T> model) {
+        if (Objects.isNull(clazz)) {
+            throw new DataListEmptyException("data list is empty exception");
+        }
+        List<Structure> structures = this.structureRegistrator.getOrDefault(clazz)
+                .stream()
+                .map(ColumnStructure::new)
+                .filter(columnStructure -> excludedHeader
+                        .negate()
+                        .test(columnStructure.getStructure().getColumn().value()))
+                .sorted()
+                .map(ColumnStructure::getStructure)
+                .collect(Collectors.toList());
+        int size = structures.size();
+        FieldWriter[] fieldWriters = new FieldWriter[size];
+        for (int colIdx = 0; colIdx < size; colIdx++) {
+            Structure structure = structures.get(colIdx);
+            appendSeparator(colIdx);
+            appendString(structure.getColumn().value());
+            fieldWriters[colIdx] = fieldWriter(structure);
+        }
+        this.buffer.append(LINE_SEPARATOR);
+        while (model.hasNext()) {
+            T next = model.next();
+            for (int colIdx = 0; colIdx < size; colIdx++) {
+                appendSeparator(colIdx);
+                fieldWriters[colIdx].write(next);
+            }
+            this.buffer.append(LINE_SEPARATOR);
+            this.buffer.flushIfNeeded();
+        }
+        flush();
+    }
+
+    /**
+     * Flush.
+     */
+    public void flush() {
+        this.buffer.flush();
+        try {
+            this.writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.buffer.flush();
+        } finally {
+            this.writer.close();
+        }
+    }
+
+    private void appendSeparator(int colIdx) {
+        if (colIdx > 0) {
+            this.buffer.append(this.delimiter);
+        }
+    }
+
+    // 구분자, 따옴표, 줄바꿈이 있을 때만 따옴표로 감쌉니다.
+    private void appendString(String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c == this.delimiter || c == '"' || c == '\n' || c == '\r') {
+                break;
+            }
+            i++;
+        }
+        if (i == length) {
+            this.buffer.append(value);
+            return;
+        }
+        this.buffer.append('"');
+        for (int j = 0; j < length; j++) {
+            char c = value.charAt(j);
+            if (c == '"') {
+                this.buffer.append('"');
+            }
+            this.buffer.append(c);
+        }
+        this.buffer.append('"');
+    }
+
+    private void appendChar(char c) {
+        if (c == this.delimiter || c == '"' || c == '\n' || c == '\r') {
+            this.buffer.append('"');
+            if (c == '"') {
+                this.buffer.append('"');
+            }
+            this.buffer.append(c).append('"');
+            return;
+        }
+        this.buffer.append(c);
+    }
+
+    private FieldWriter fieldWriter(Structure structure) {
+        Class<?> type = structure.getField().getType();
+        FieldAccessor accessor = structure.getAccessor();
+        if (type == boolean.class) {
+            return model -> this.buffer.append(accessor.getBoolean(model) ? "true" : "false");
+        }
+        if (type == char.class) {
+            return model -> appendChar(accessor.getChar(model));
+        }
+        if (type == long.class || type == int.class || type == short.class || type == byte.class) {
+            return model -> this.buffer.appendLong(accessor.getLong(model));
+        }
+        if (type == float.class) {
+            return model -> appendFloat((float) accessor.getDouble(model));
+        }
+        if (type.isPrimitive()) {
+            return model -> this.buffer.appendNumber(accessor.getDouble(model));
+        }
+        String defaultValue = structure.getDefaultValue();
+        boolean hasDefault = Objects.nonNull(defaultValue) && !"".equals(defaultValue);
+        return model -> {
+            Object value = Objects.isNull(model) ? null : accessor.get(model);
+            if (Objects.nonNull(value)) {
+                appendValue(value);
+            } else if (hasDefault) {
+                appendString(defaultValue);
+            }
+        };
+    }
+
+    private void appendValue(Object value) {
+        if (value instanceof String) {
+            appendString((String) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            this.buffer.appendLong(((Number) value).longValue());
+        } else if (value instanceof Float) {
+            appendFloat((Float) value);
+        } else if (value instanceof Double) {
+            this.buffer.appendNumber((Double) value);
+        } else if (value instanceof BigDecimal) {
+            this.buffer.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Boolean) {
+            this.buffer.append((Boolean) value ? "true" : "false");
+        } else if (value instanceof Enum) {
+            appendString(((Enum<?>) value).name());
+        } else if (value instanceof Date) {
+            this.buffer.append(((Date) value).toInstant().toString());
+        } else if (value instanceof Calendar) {
+            this.buffer.append(((Calendar) value).toInstant().toString());
+        } else {
+            appendString(String.valueOf(value)); // BigInteger, java.time 타입은 toString 이 ISO 형식
+        }
+    }
+
+    private void appendFloat(float f) {
+        if (f == (long) f) {
+            this.buffer.appendLong((long) f);
+        } else {
+            this.buffer.append(Float.toString(f)); // 1.1f 가 1.100000023841858 로 기록되지 않도록
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(Object model);
+    }
+}
@@ -1,30 +1,32 @@
 package org.celper.core;
 
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.celper.core.structure.ColumnStructure;
-import org.celper.core.structure.ImportStructure;
 import org.celper.core.structure.Structure;
+import org.celper.core.style.CellStyleRegistry;
 import org.celper.exception.DataListEmptyException;
-import org.celper.exception.NoSuchFieldException;
-import org.celper.common.ModelMapperFactory;
-import org.modelmapper.ModelMapper;
+import org.celper.metrics.Phase;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 /**
  * The type Excel sheet.
  */
 public class ExcelSheet {
-    private final Workbook _wb;
-    private final Sheet sheet;
+    private final WorkbookHolder workbookHolder;
+    private Sheet sheet;
     private final StructureRegistrator structureRegistrator;
+    private final CellStyleRegistry cellStyleRegistry;
 
     /**
      * Instantiates a new Excel sheet.
@@ -34,9 +36,34 @@ public class ExcelSheet {
      * @param structureRegistrator the structure registrator
      */
     public ExcelSheet(Workbook workbook, Sheet sheet, StructureRegistrator structureRegistrator) {
-        this._wb = workbook;
+        this(workbook, sheet, structureRegistrator, new CellStyleRegistry(workbook));
+    }
+
+    /**
+     * Instantiates a new Excel sheet.
+     *
+     * @param workbook             the workbook
+     * @param sheet                the sheet
+     * @param structureRegistrator the structure registrator
+     * @param cellStyleRegistry    the cell style registry
+     */
+    public ExcelSheet(Workbook workbook, Sheet sheet, StructureRegistrator structureRegistrator, CellStyleRegistry cellStyleRegistry) {
+        this(new WorkbookHolder(workbook), sheet, structureRegistrator, cellStyleRegistry);
+    }
+
+    /**
+     * Instantiates a new Excel sheet.
+     *
+     * @param workbookHolder       the workbook holder
+     * @param sheet                the sheet
+     * @param structureRegistrator the structure registrator
+     * @param cellStyleRegistry    the cell style registry
+     */
+    ExcelSheet(WorkbookHolder workbookHolder, Sheet sheet, StructureRegistrator structureRegistrator, CellStyleRegistry cellStyleRegistry) {
+        this.workbookHolder = workbookHolder;
         this.sheet = sheet;
         this.structureRegistrator = structureRegistrator;
+        this.cellStyleRegistry = cellStyleRegistry;
     }
 
     /**
@@ -45,16 +72,17 @@ public class ExcelSheet {
      * @return the name
      */
     public String getName() {
-        return this.sheet.getSheetName();
+        return sheet().getSheetName();
     }
 
     /**
      * Gets sheet.
+     * AUTO 워크북이 SXSSF 로 바뀐 뒤에는 SXSSF 시트를 반환합니다.
      *
      * @return the sheet
      */
     public Sheet getSheet() {
-        return this.sheet;
+        return sheet();
     }
 
     /**
@@ -74,19 +102,249 @@ public class ExcelSheet {
      * @param excludedHeader the excluded header
      * @param model          the model
      */
+    @SuppressWarnings("unchecked")
     public <T> void modelToSheet(Predicate<String> excludedHeader, List<T> model) {
         if (Objects.isNull(model) || model.isEmpty()) {
             throw new DataListEmptyException("data list is empty exception");
         }
-        List<ColumnStructure> columnStructures = createColumnStructures(excludedHeader, structureRegistrator.getOrDefault(model.get(0).getClass()));
+        Class<T> clazz = (Class<T>) model.get(0).getClass();
+        reserve(clazz, model.size());
+        modelToSheet(excludedHeader, clazz, model.spliterator());
+    }
+
+    /**
+     * Model to sheet.
+     *
+     * @param <T>   the type parameter
+     * @param clazz the clazz
+     * @param model the model
+     */
+    public <T> void modelToSheet(Class<T> clazz, Iterator<? extends T> model) {
+        modelToSheet(header -> false, clazz, model);
+    }
+
+    /**
+     * Model to sheet.
+     *
+     * @param <T>   the type parameter
+     * @param clazz the clazz
+     * @param model the model
+     */
+    public <T> void modelToSheet(Class<T> clazz, Stream<? extends T> model) {
+        modelToSheet(header -> false, clazz, model);
+    }
+
+    /**
+     * Model to sheet.
+     *
+     * @param <T>   the type parameter
+     * @param clazz the clazz
+     * @param model the model
+     */
+    public <T> void modelToSheet(Class<T> clazz, Spliterator<? extends T> model) {
+        modelToSheet(header -> false, clazz, model);
+    }
+
+    /**
+     * Model to sheet.
+     *
+     * @param <T>            the type parameter
+     * @param excludedHeader the excluded header
+     * @param clazz          the clazz
+     * @param model          the model
+     */
+    public <T> void modelToSheet(Predicate<String> excludedHeader, Class<T> clazz, Stream<? extends T> model) {
+        if (Objects.isNull(model)) {
+            throw new DataListEmptyException("data list is empty exception");
+        }
+        modelToSheet(excludedHeader, clazz, model.spliterator());
+    }
+
+    /**
+     * Model to sheet.
+     *
+     * @param <T>            the type parameter
+     * @param excludedHeader the excluded header
+     * @param clazz          the clazz
+     * @param model          the model
+     */
+    public <T> void modelToSheet(Predicate<String> excludedHeader, Class<T> clazz, Spliterator<? extends T> model) {
+        if (Objects.isNull(model)) {
+            throw new DataListEmptyException("data list is empty exception");
+        }
+        if (model.hasCharacteristics(Spliterator.SIZED)) {
+            reserve(clazz, model.estimateSize());
+        }
+        modelToSheet(excludedHeader, clazz, Spliterators.iterator(model));
+    }
+
+    /**
+     * Model to sheet.
+     * 행을 하나씩 꺼내서 기록하므로 SXSSF 와 함께 쓰면 전체 데이터를 메모리에 올리지 않습니다.
+     *
+     * @param <T>            the type parameter
+     * @param excludedHeader the excluded header
+     * @param clazz          the clazz
+     * @param model          the model
+     */
+    public <T> void modelToSheet(Predicate<String> excludedHeader, Class<T> clazz, Iterator<? extends T> model) {
+        modelToSheet(excludedHeader, clazz, model, new ExportOptions());
+    }
+
+    /**
+     * Model to sheet.
+     *
+     * @param <T>           the type parameter
+     * @param clazz         the clazz
+     * @param model         the model
+     * @param exportOptions the export options
+     */
+    public <T> void modelToSheet(Class<T> clazz, Stream<? extends T> model, ExportOptions exportOptions) {
+        if (Objects.isNull(model)) {
+            throw new DataListEmptyException("data list is empty exception");
+        }
+        modelToSheet(header -> false, clazz, model.iterator(), exportOptions);
+    }
+
+    /**
+     * Model to sheet.
+     * {@link ExportOptions#parallel()} 를 지정하면 값 추출은 여러 스레드에서, 시트 기록은 호출한 스레드에서 순서대로 처리합니다.
+     *
+     * @param <T>            the type parameter
+     * @param excludedHeader the excluded header
+     * @param clazz          the clazz
+     * @param model          the model
+     * @param exportOptions  the export options
+     */
+    public <T> void modelToSheet(Predicate<String> excludedHeader, Class<T> clazz, Iterator<? extends T> model, ExportOptions exportOptions) {
+        if (Objects.isNull(clazz) || Objects.isNull(model)) {
+            throw new DataListEmptyException("data list is empty exception");
+        }
+        SheetOperation sheetOperation = SheetOperations.begin("modelToSheet", clazz);
+        String sheetName = sheet().getSheetName();
+        PhaseRecorder phaseRecorder = new PhaseRecorder(this.workbookHolder.getMetrics(), clazz);
+        List<ColumnStructure> columnStructures = createColumnStructures(excludedHeader, clazz, phaseRecorder);
 
         int headerRowIndex = 0;
-        int dataRow = headerRowIndex + 1;
-        int modelSize = model.size();
 
-        headerWrite(columnStructures, headerRowIndex);
-        IntStream.rangeClosed(dataRow, modelSize)
-                .forEach(rowIndex -> dataWrite(columnStructures, rowIndex, model.get(rowIndex - 1)));
+        ColumnWidthTracker columnWidthTracker = new ColumnWidthTracker(columnStructures, false);
+        columnWidthTracker.trackHeader(headerWrite(columnStructures, sheet(), headerRowIndex));
+        phaseRecorder.lap(Phase.HEADER_WRITE, 1, columnStructures.size());
+        RowCursor rowCursor = createRowCursor(columnStructures, headerRowIndex, exportOptions, columnWidthTracker);
+        phaseRecorder.startRows(Phase.ROW_WRITE, columnStructures.size());
+        if (exportOptions.isParallel()) {
+            new PipelinedRowWriter(columnStructures, exportOptions, columnWidthTracker, phaseRecorder).write(rowCursor, model);
+        } else {
+            while (model.hasNext()) {
+                Row row = rowCursor.next();
+                T next = model.next();
+                dataWrite(columnStructures, row, next);
+                columnWidthTracker.track(row, next);
+                phaseRecorder.row();
+            }
+        }
+        columnWidthTracker.finish();
+        phaseRecorder.flushRows();
+        sheetOperation.end(sheetName, this.workbookHolder.get(), phaseRecorder.getTotalRows(), columnStructures.size());
+    }
+
+    /**
+     * Model writer consumer.
+     *
+     * @param <T>   the type parameter
+     * @param clazz the clazz
+     * @return the consumer
+     */
+    public <T> Consumer<T> modelWriter(Class<T> clazz) {
+        return modelWriter(header -> false, clazz, new ExportOptions());
+    }
+
+    /**
+     * Model writer consumer.
+     * 헤더를 바로 기록하고, 모델을 받을 때마다 다음 행에 기록하는 consumer 를 돌려줍니다.
+     * 모델이 push 방식으로 들어올 때 사용하며, rollover 는 적용되고 parallel 은 사용하지 않습니다.
+     * 한 스레드에서만 호출해야 합니다.
+     *
+     * @param <T>            the type parameter
+     * @param excludedHeader the excluded header
+     * @param clazz          the clazz
+     * @param exportOptions  the export options
+     * @return the consumer
+     */
+    public <T> Consumer<T> modelWriter(Predicate<String> excludedHeader, Class<T> clazz, ExportOptions exportOptions) {
+        if (Objects.isNull(clazz)) {
+            throw new DataListEmptyException("data list is empty exception");
+        }
+        PhaseRecorder phaseRecorder = new PhaseRecorder(this.workbookHolder.getMetrics(), clazz);
+        List<ColumnStructure> columnStructures = createColumnStructures(excludedHeader, clazz, phaseRecorder);
+        int headerRowIndex = 0;
+        ColumnWidthTracker columnWidthTracker = new ColumnWidthTracker(columnStructures, true); // 끝을 알 수 없으므로 늘어날 때마다 적용
+        columnWidthTracker.trackHeader(headerWrite(columnStructures, sheet(), headerRowIndex));
+        phaseRecorder.lap(Phase.HEADER_WRITE, 1, columnStructures.size());
+        RowCursor rowCursor = createRowCursor(columnStructures, headerRowIndex, exportOptions, columnWidthTracker);
+        phaseRecorder.startRows(Phase.ROW_WRITE, columnStructures.size()); // 끝을 알 수 없으므로 BATCH_ROWS 를 채운 구간만 보고
+        return model -> {
+            Row row = rowCursor.next();
+            dataWrite(columnStructures, row, model);
+            columnWidthTracker.track(row, model);
+            phaseRecorder.row();
+        };
+    }
+
+    /**
+     * Model to sheet async completable future.
+     *
+     * @param <T>      the type parameter
+     * @param clazz    the clazz
+     * @param model    the model
+     * @param executor the executor
+     * @return the completable future
+     */
+    public <T> CompletableFuture<Void> modelToSheetAsync(Class<T> clazz, Stream<? extends T> model, Executor executor) {
+        if (Objects.isNull(model)) {
+            throw new DataListEmptyException("data list is empty exception");
+        }
+        return modelToSheetAsync(header -> false, clazz, model.iterator(), new ExportOptions(), executor);
+    }
+
+    /**
+     * Model to sheet async completable future.
+     *
+     * @param <T>      the type parameter
+     * @param clazz    the clazz
+     * @param model    the model
+     * @param executor the executor
+     * @return the completable future
+     */
+    public <T> CompletableFuture<Void> modelToSheetAsync(Class<T> clazz, Iterator<? extends T> model, Executor executor) {
+        return modelToSheetAsync(header -> false, clazz, model, new ExportOptions(), executor);
+    }
+
+    /**
+     * Model to sheet async completable future.
+     * executor 에서 기록하며, 일정 행마다 future 의 취소 여부를 확인합니다.
+     * 취소되면 기록을 멈추고 SXSSF 임시 파일을 지웁니다. 취소된 workbook 은 더 사용할 수 없습니다.
+     *
+     * @param <T>            the type parameter
+     * @param excludedHeader the excluded header
+     * @param clazz          the clazz
+     * @param model          the model
+     * @param exportOptions  the export options
+     * @param executor       the executor
+     * @return the completable future
+     */
+    public <T> CompletableFuture<Void> modelToSheetAsync(Predicate<String> excludedHeader, Class<T> clazz, Iterator<? extends T> model,
+                                                         ExportOptions exportOptions, Executor executor) {
+        if (Objects.isNull(clazz) || Objects.isNull(model)) {
+            throw new DataListEmptyException("data list is empty exception");
+        }
+        return CancellableTask.run(executor,
+                future -> modelToSheet(excludedHeader, clazz, CancellableTask.iterator(model, future), exportOptions),
+                () -> {
+                    if (this.workbookHolder.get() instanceof SXSSFWorkbook) {
+                        ((SXSSFWorkbook) this.workbookHolder.get()).dispose();
+                    }
+                });
     }
 
     /**
@@ -105,22 +363,106 @@ public class ExcelSheet {
      * @param modelLists     the model lists
      */
     public void multiModelToSheet(Predicate<String> excludedHeader, List<?>... modelLists) {
-        for (List<?> modelList : modelLists) {
-            if (Objects.isNull(modelList)) {
+        Iterator<?>[] iterators = new Iterator<?>[modelLists.length];
+        for (int i = 0; i < modelLists.length; i++) {
+            if (Objects.isNull(modelLists[i])) {
                 throw new DataListEmptyException("data list is empty exception");
             }
+            iterators[i] = modelLists[i].iterator();
         }
+        multiModelToSheet(excludedHeader, iterators);
+    }
 
-        List<Object[]> multiModel = convertMultiModel(modelLists);
-        List<ColumnStructure> multiColumnStructures = createMultiColumnStructures(excludedHeader, multiModel);
+    /**
+     * Multi model to sheet.
+     *
+     * @param models the models
+     */
+    public void multiModelToSheet(Stream<?>... models) {
+        multiModelToSheet(s -> false, models);
+    }
+
+    /**
+     * Multi model to sheet.
+     *
+     * @param excludedHeader the excluded header
+     * @param models         the models
+     */
+    public void multiModelToSheet(Predicate<String> excludedHeader, Stream<?>... models) {
+        Iterator<?>[] iterators = new Iterator<?>[models.length];
+        for (int i = 0; i < models.length; i++) {
+            if (Objects.isNull(models[i])) {
+                throw new DataListEmptyException("data list is empty exception");
+            }
+            iterators[i] = models[i].iterator();
+        }
+        multiModelToSheet(excludedHeader, iterators);
+    }
+
+    /**
+     * Multi model to sheet.
+     *
+     * @param models the models
+     */
+    public void multiModelToSheet(Iterator<?>... models) {
+        multiModelToSheet(s -> false, models);
+    }
+
+    /**
+     * Multi model to sheet.
+     * 인자 순서대로 모델마다 컬럼 묶음을 만들고, 각 iterator 에서 한 개씩 꺼내 한 행으로 기록합니다.
+     * 모델의 타입은 첫 번째 원소로 정하므로 원소가 없는 입력은 허용하지 않으며, 짧은 입력은 빈 셀(또는 기본값)로 채웁니다.
+     *
+     * @param excludedHeader the excluded header
+     * @param models         the models
+     */
+    public void multiModelToSheet(Predicate<String> excludedHeader, Iterator<?>... models) {
+        Object[] current = new Object[models.length];
+        for (int i = 0; i < models.length; i++) {
+            current[i] = Objects.isNull(models[i]) || !models[i].hasNext() ? null : models[i].next();
+            if (Objects.isNull(current[i])) {
+                throw new DataListEmptyException("data list is empty exception");
+            }
+        }
+
+        SheetOperation sheetOperation = SheetOperations.begin("multiModelToSheet", current[0].getClass());
+        List<ColumnStructure> multiColumnStructures = new ArrayList<>();
+        List<Integer> modelIndexes = new ArrayList<>();
+        for (int i = 0; i < models.length; i++) {
+            int modelIndex = i;
+            PhaseRecorder modelPhaseRecorder = new PhaseRecorder(this.workbookHolder.getMetrics(), current[i].getClass());
+            List<Structure> structures = structureRegistrator.getOrDefault(current[i].getClass());
+            modelPhaseRecorder.lap(Phase.STRUCTURE_RESOLUTION);
+            createColumnStructures(structures, excludedHeader, ColumnStructure :: setNonSheetStyle)
+                    .forEach(columnStructure -> {
+                        multiColumnStructures.add(columnStructure);
+                        modelIndexes.add(modelIndex);
+                    });
+            modelPhaseRecorder.lap(Phase.STYLE_CREATION);
+        }
+        int[] columnModelIndexes = modelIndexes.stream().mapToInt(Integer :: intValue).toArray();
 
         int headerRowIndex = 0;
-        int dataRow = headerRowIndex + 1;
-        int multiModelSize = multiModel.size();
+        int rowIndex = headerRowIndex + 1;
 
+        // 여러 모델이 한 행에 기록되므로 헤더와 행 단계는 첫 번째 모델의 클래스로 보고
+        PhaseRecorder phaseRecorder = new PhaseRecorder(this.workbookHolder.getMetrics(), current[0].getClass());
         headerWrite(multiColumnStructures, headerRowIndex);
-        IntStream.rangeClosed(dataRow, multiModelSize)
-                .forEach(rowIndex -> dataWrite(multiColumnStructures, rowIndex, multiModel.get(rowIndex - 1)));
+        phaseRecorder.lap(Phase.HEADER_WRITE, 1, multiColumnStructures.size());
+        phaseRecorder.startRows(Phase.ROW_WRITE, multiColumnStructures.size());
+        boolean hasRow = true;
+        while (hasRow) {
+            dataWrite(multiColumnStructures, rowIndex++, columnModelIndexes, current);
+            phaseRecorder.row();
+            hasRow = false;
+            for (int i = 0; i < models.length; i++) {
+                boolean hasNext = models[i].hasNext();
+                current[i] = hasNext ? models[i].next() : null;
+                hasRow |= hasNext;
+            }
+        }
+        phaseRecorder.flushRows();
+        sheetOperation.end(sheet().getSheetName(), this.workbookHolder.get(), phaseRecorder.getTotalRows(), multiColumnStructures.size());
     }
 
     /**
@@ -131,97 +473,236 @@ public class ExcelSheet {
      * @return the list
      */
     public <T> List<T> sheetToModel(Class<T> clazz) {
-        ModelMapper modelMapper = ModelMapperFactory.defaultModelMapper(); // Model Mapper 가져오기
+        return sheetToModel(clazz, new ImportOptions());
+    }
 
-        List<ColumnStructure> columnStructures = createColumnStructures(header -> false, structureRegistrator.getOrDefault(clazz));
-        List<ImportStructure> importList = convertImportStructures(columnStructures);
+    /**
+     * Sheet to model list.
+     *
+     * @param <T>           the type parameter
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @return the list
+     */
+    public <T> List<T> sheetToModel(Class<T> clazz, ImportOptions importOptions) {
+        SheetOperation sheetOperation = SheetOperations.begin("sheetToModel", clazz);
+        PhaseRecorder phaseRecorder = new PhaseRecorder(this.workbookHolder.getMetrics(), clazz);
+        HeaderResolver headerResolver = resolveHeader(clazz, importOptions, phaseRecorder);
+        int startRow = headerResolver.getStartRow(sheet().getSheetName());
+        ImportMapper<T> importMapper = ImportMapper.compile(clazz, headerResolver.getImportStructures());
+        List<T> models;
+        if (importOptions.isParallel()) {
+            models = importRowsParallel(importMapper, startRow, sheet().getLastRowNum(), importOptions);
+            phaseRecorder.lap(Phase.MAPPING, models.size(), (long) models.size() * importMapper.size());
+        } else {
+            models = importRows(importMapper, startRow, sheet().getLastRowNum(), phaseRecorder).collect(Collectors.toList());
+            phaseRecorder.flushRows();
+        }
+        sheetOperation.end(sheet().getSheetName(), this.workbookHolder.get(), models.size(), importMapper.size());
+        return models;
+    }
 
-        int startRow = importList.stream()// 병합을 고려해서 startRow 추출 병합 고려할려면 isMerged 만들어야함
-                .max(ImportStructure :: compareTo)
-                .orElseThrow(() -> new NoSuchFieldException(String.format("'%s' 시트에 매칭된 필드가 없습니다.", this.sheet.getSheetName())))
-                .getHeaderRowPosition() + 1;
+    /**
+     * Sheet to model stream.
+     * 헤더를 찾은 뒤 행을 필요할 때마다 하나씩 변환하는 stream 을 돌려줍니다.
+     * {@link ImportOptions#parallel()} 은 지원하지 않습니다.
+     *
+     * @param <T>           the type parameter
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @return the stream
+     */
+    public <T> Stream<T> sheetToModelStream(Class<T> clazz, ImportOptions importOptions) {
+        importOptions.requireSequential();
+        PhaseRecorder phaseRecorder = new PhaseRecorder(this.workbookHolder.getMetrics(), clazz);
+        HeaderResolver headerResolver = resolveHeader(clazz, importOptions, phaseRecorder);
+        int startRow = headerResolver.getStartRow(sheet().getSheetName());
+        ImportMapper<T> importMapper = ImportMapper.compile(clazz, headerResolver.getImportStructures());
+        return importRows(importMapper, startRow, sheet().getLastRowNum(), phaseRecorder)
+                .onClose(phaseRecorder :: flushRows);
+    }
 
-        return IntStream.rangeClosed(startRow, this.sheet.getLastRowNum())
-                .filter(rowIdx -> Objects.nonNull(this.sheet.getRow(rowIdx)))
-                .mapToObj(rowIdx -> createModelMap(importList, rowIdx))
-                .map(entry -> modelMapper.map(entry, clazz))
-                .collect(Collectors.toList());
+    /**
+     * Sheet to model.
+     * 행을 읽는 동안 batchSize 만큼 모아서 batchConsumer 에 넘깁니다.
+     * 리스트는 재사용되므로 콜백 밖에서 보관하려면 복사해야 합니다.
+     *
+     * @param <T>           the type parameter
+     * @param clazz         the clazz
+     * @param batchSize     the batch size
+     * @param batchConsumer the batch consumer
+     */
+    public <T> void sheetToModel(Class<T> clazz, int batchSize, Consumer<List<T>> batchConsumer) {
+        sheetToModel(clazz, new ImportOptions(), batchSize, batchConsumer);
+    }
+
+    /**
+     * Sheet to model.
+     * 행을 읽는 동안 batchSize 만큼 모아서 batchConsumer 에 넘깁니다.
+     * 리스트는 재사용되므로 콜백 밖에서 보관하려면 복사해야 합니다.
+     * 행 순서대로 넘기므로 {@link ImportOptions#parallel()} 은 지원하지 않습니다.
+     *
+     * @param <T>           the type parameter
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @param batchSize     the batch size
+     * @param batchConsumer the batch consumer
+     */
+    public <T> void sheetToModel(Class<T> clazz, ImportOptions importOptions, int batchSize, Consumer<List<T>> batchConsumer) {
+        importOptions.requireSequential();
+        ModelBatch<T> modelBatch = new ModelBatch<>(batchSize, batchConsumer);
+        SheetOperation sheetOperation = SheetOperations.begin("sheetToModel", clazz);
+        PhaseRecorder phaseRecorder = new PhaseRecorder(this.workbookHolder.getMetrics(), clazz);
+        HeaderResolver headerResolver = resolveHeader(clazz, importOptions, phaseRecorder);
+        int startRow = headerResolver.getStartRow(sheet().getSheetName());
+        ImportMapper<T> importMapper = ImportMapper.compile(clazz, headerResolver.getImportStructures());
+        importRows(importMapper, startRow, sheet().getLastRowNum(), phaseRecorder).forEachOrdered(modelBatch);
+        modelBatch.flush();
+        phaseRecorder.flushRows();
+        sheetOperation.end(sheet().getSheetName(), this.workbookHolder.get(), phaseRecorder.getTotalRows(), importMapper.size());
+    }
+
+    // 호출한 쪽이 stream 을 소비하는 시간도 MAPPING 구간에 포함됩니다.
+    private <T> Stream<T> importRows(ImportMapper<T> importMapper, int fromRow, int toRow, PhaseRecorder phaseRecorder) {
+        phaseRecorder.startRows(Phase.MAPPING, importMapper.size());
+        return importRows(sheet(), importMapper, fromRow, toRow).peek(model -> phaseRecorder.row());
+    }
+
+    private static <T> Stream<T> importRows(Sheet sheet, ImportMapper<T> importMapper, int fromRow, int toRow) {
+        return IntStream.rangeClosed(fromRow, toRow)
+                .mapToObj(sheet :: getRow)
+                .filter(Objects :: nonNull)
+                .map(row -> importMapper.map(colIdx -> CellUtils.getValue(row, colIdx)));
+    }
+
+    // 행 범위를 나눠서 executor 에서 변환하고, 나눈 순서대로 합칩니다. 셀은 읽기만 하고 만들지 않습니다.
+    // 시트는 호출한 스레드에서 한 번만 찾아서 넘기므로 작업 스레드는 this.sheet 를 바꾸지 않습니다.
+    private <T> List<T> importRowsParallel(ImportMapper<T> importMapper, int startRow, int lastRow, ImportOptions importOptions) {
+        Sheet sheet = sheet();
+        int chunkSize = importOptions.getParallelChunkSize();
+        List<CompletableFuture<List<T>>> chunks = new ArrayList<>();
+        for (int fromRow = startRow; fromRow <= lastRow; fromRow += chunkSize) {
+            int from = fromRow;
+            int to = (int) Math.min(lastRow, (long) fromRow + chunkSize - 1);
+            chunks.add(CompletableFuture.supplyAsync(() -> importRows(sheet, importMapper, from, to).collect(Collectors.toList()),
+                    importOptions.getExecutor()));
+        }
+        List<T> result = new ArrayList<>(Math.max(0, lastRow - startRow + 1));
+        try {
+            for (CompletableFuture<List<T>> chunk : chunks) {
+                result.addAll(chunk.join());
+            }
+        } catch (CompletionException e) {
+            chunks.forEach(chunk -> chunk.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return result;
+    }
+
+    private HeaderResolver resolveHeader(Class<?> clazz, ImportOptions importOptions, PhaseRecorder phaseRecorder) {
+        HeaderResolver headerResolver = resolveHeader(createColumnStructures(header -> false, clazz, phaseRecorder), importOptions);
+        phaseRecorder.lap(Phase.HEADER_DETECTION);
+        return headerResolver;
+    }
+
+    // AUTO 워크북이 SXSSF 로 바뀌었으면 같은 이름의 시트로 다시 연결
+    private Sheet sheet() {
+        return this.sheet = this.workbookHolder.current(this.sheet);
     }
 
     private void headerWrite(List<ColumnStructure> columnStructures, int rowIndex) {
-        Row headerRow = CellUtils.createRow(this.sheet, rowIndex, columnStructures.size());
+        headerWrite(columnStructures, sheet(), rowIndex);
+    }
+
+    private Row headerWrite(List<ColumnStructure> columnStructures, Sheet sheet, int rowIndex) {
+        Row headerRow = CellUtils.createRow(sheet, rowIndex, columnStructures.size());
         IntConsumer setHeader = colIdx -> CellUtils.setValue(headerRow.getCell(colIdx), columnStructures.get(colIdx).getStructure().getColumn().value());
         IntConsumer setStyle = colIdx -> headerRow.getCell(colIdx).setCellStyle(columnStructures.get(colIdx).getHeaderAreaCellStyle());
         write(columnStructures, setHeader, setStyle);
+        return headerRow;
     }
 
-    private void dataWrite(List<ColumnStructure> columnStructures, int rowIndex, Object[] model) {
-        Stream.of(model).forEach(o -> dataWrite(columnStructures, rowIndex, o));
+    private void dataWrite(List<ColumnStructure> columnStructures, int rowIndex, int[] columnModelIndexes, Object[] model) {
+        this.workbookHolder.addCells(columnStructures.size());
+        Row row = CellUtils.createRow(sheet(), rowIndex, columnStructures.size());
+        for (int colIdx = 0; colIdx < columnStructures.size(); colIdx++) {
+            dataWrite(columnStructures.get(colIdx), row.getCell(colIdx), model[columnModelIndexes[colIdx]]);
+        }
     }
 
-    private void dataWrite(List<ColumnStructure> columnStructures, int rowIndex, Object o) {
-        Row row = CellUtils.createRow(this.sheet, rowIndex, columnStructures.size());
-        IntConsumer setValue = colIdx -> CellUtils.setValue(columnStructures.get(colIdx), row.getCell(colIdx), o);
-        IntConsumer setStyle = colIdx -> row.getCell(colIdx).setCellStyle(columnStructures.get(colIdx).getDataAreaCellStyle());
-        write(columnStructures, setValue, setStyle);
+    private RowCursor createRowCursor(List<ColumnStructure> columnStructures, int headerRowIndex, ExportOptions exportOptions,
+                                      ColumnWidthTracker columnWidthTracker) {
+        return new RowCursor(this.workbookHolder, sheet(), headerRowIndex + 1, columnStructures.size(), getMaxRows(exportOptions),
+                nextSheet -> columnWidthTracker.trackHeader(rolloverHeaderWrite(columnStructures, nextSheet, headerRowIndex)));
     }
 
-    private void write(List<ColumnStructure> columnStructures, IntConsumer setValue, IntConsumer setStyle) {
-        IntConsumer consumer = setValue.andThen(setStyle);
-        IntStream.range(0, columnStructures.size()).forEach(consumer);
+    // 넘어간 시트에도 시트 설정을 적용하고, 같은 캐시 스타일로 헤더를 다시 기록
+    private Row rolloverHeaderWrite(List<ColumnStructure> columnStructures, Sheet nextSheet, int rowIndex) {
+        columnStructures.forEach(columnStructure -> columnStructure.setSheetStyle(nextSheet));
+        return headerWrite(columnStructures, nextSheet, rowIndex);
     }
 
-    private List<Object[]> convertMultiModel(List<?>[] modelLists) {
-        Arrays.sort(modelLists, (o1, o2) -> o2.size() - o1.size());
-        int maxModelSize = modelLists[0].size();
-        int size = modelLists.length;
-        List<Object[]> convertModel = new ArrayList<>(maxModelSize);
-        IntStream.range(0, maxModelSize).forEach(i -> convertModel.add(new Object[size]));
-        for (int i = 0; i < size; i++) {
-            List<?> objects = modelLists[i];
-            int dataSize = objects.size();
-            while (--dataSize >= 0) {
-                convertModel.get(dataSize)[i] = objects.get(dataSize);
-            }
+    // 행 수를 미리 알면 기록하기 전에 AUTO 워크북의 SXSSF 전환 여부를 결정
+    private void reserve(Class<?> clazz, long rows) {
+        if (Objects.nonNull(clazz)) {
+            this.workbookHolder.reserve(rows, structureRegistrator.getOrDefault(clazz).size());
         }
-        return convertModel;
     }
 
-    private List<ImportStructure> convertImportStructures(List<ColumnStructure> columnStructures) {
-        List<ImportStructure> newList = new ArrayList<>(columnStructures.size());
-        int searchRowRange = Math.min(this.sheet.getLastRowNum(), 100);
-        for (int i = 0; i < searchRowRange; i++) {
-            Stream.of(this.sheet.getRow(i))
-                    .filter(Objects :: nonNull)
-                    .flatMap(row -> StreamSupport.stream(row.spliterator(), false))
-                    .filter(Objects :: nonNull)
-                    .filter(cell -> cell.getCellType() == CellType.STRING)
-                    .forEach(cell -> add(columnStructures, newList, cell));
+    private int getMaxRows(ExportOptions exportOptions) {
+        if (!exportOptions.isRollover()) {
+            return 0;
         }
-        return newList;
+        int versionMaxRows = this.workbookHolder.get().getSpreadsheetVersion().getMaxRows();
+        int maxRowsPerSheet = exportOptions.getMaxRowsPerSheet();
+        return maxRowsPerSheet > 0 ? Math.min(maxRowsPerSheet, versionMaxRows) : versionMaxRows;
     }
 
-    private void add(List<ColumnStructure> columnStructures, List<ImportStructure> newList, Cell cell) {
-        for (ColumnStructure structure : columnStructures) {
-            if (structure.getImportNameOptions().contains(CellUtils.getValue(cell).toString().trim().intern())) {
-                ImportStructure importStructure = new ImportStructure(structure, cell.getRowIndex(), cell.getColumnIndex());
-                newList.add(importStructure);
-                columnStructures.remove(structure);
-                return;
-            }
+    private void dataWrite(List<ColumnStructure> columnStructures, Row row, Object o) {
+        for (int colIdx = 0; colIdx < columnStructures.size(); colIdx++) {
+            dataWrite(columnStructures.get(colIdx), row.getCell(colIdx), o);
         }
     }
 
-    private List<ColumnStructure> createMultiColumnStructures(Predicate<String> excludedHeader, List<Object[]> multiModel) {
-        return Stream.of(multiModel.get(0))
-                .map(o -> structureRegistrator.getOrDefault(o.getClass()))
-                .flatMap(structure -> createColumnStructures(structure, excludedHeader, ColumnStructure :: setNonSheetStyle))
-                .collect(Collectors.toList());
+    private void dataWrite(ColumnStructure columnStructure, Cell cell, Object o) {
+        columnStructure.getCellWriter().write(cell, o);
+        cell.setCellStyle(columnStructure.getDataAreaCellStyle());
+    }
+
+    private void write(List<ColumnStructure> columnStructures, IntConsumer setValue, IntConsumer setStyle) {
+        IntConsumer consumer = setValue.andThen(setStyle);
+        IntStream.range(0, columnStructures.size()).forEach(consumer);
     }
 
-    private List<ColumnStructure> createColumnStructures(Predicate<String> excludedHeader, List<Structure> structures) {
-        return createColumnStructures(structures, excludedHeader, structure -> structure.setSheetStyle(this.sheet))
+    private HeaderResolver resolveHeader(List<ColumnStructure> columnStructures, ImportOptions importOptions) {
+        HeaderResolver headerResolver = new HeaderResolver(columnStructures);
+        int searchRowEnd = importOptions.hasHeaderRowIndex()
+                ? importOptions.getScanRowEnd()
+                : Math.min(sheet().getLastRowNum(), importOptions.getScanRowEnd());
+        for (int i = importOptions.hasHeaderRowIndex() ? importOptions.getHeaderRowIndex() : 0; i < searchRowEnd && !headerResolver.isResolved(); i++) {
+            Row row = sheet().getRow(i);
+            if (Objects.isNull(row)) {
+                continue;
+            }
+            for (Cell cell : row) {
+                if (cell.getCellType() == CellType.STRING) {
+                    headerResolver.accept(cell.getRowIndex(), cell.getColumnIndex(), cell.getStringCellValue());
+                }
+            }
+        }
+        return headerResolver;
+    }
+
+    private List<ColumnStructure> createColumnStructures(Predicate<String> excludedHeader, Class<?> clazz, PhaseRecorder phaseRecorder) {
+        List<Structure> structures = structureRegistrator.getOrDefault(clazz);
+        phaseRecorder.lap(Phase.STRUCTURE_RESOLUTION);
+        List<ColumnStructure> columnStructures = createColumnStructures(structures, excludedHeader, structure -> structure.setSheetStyle(sheet()))
                 .collect(Collectors.toList());
+        phaseRecorder.lap(Phase.STYLE_CREATION);
+        return columnStructures;
     }
 
     private Stream<ColumnStructure> createColumnStructures(List<Structure> structures,
@@ -229,7 +710,7 @@ public class ExcelSheet {
                                                            Consumer<ColumnStructure> sheetStyleConsumer) {
         Consumer<ColumnStructure> consumer = sheetStyleConsumer.andThen(ColumnStructure :: setColumnStyle);
         return structures.stream()
-                .map(structure -> new ColumnStructure(this._wb, structure))
+                .map(structure -> new ColumnStructure(this.cellStyleRegistry, structure))
                 .filter(columnStructure -> excludedHeader
                         .negate()
                         .test(columnStructure.getStructure().getColumn().value()))
@@ -239,14 +720,4 @@ public class ExcelSheet {
                 })
                 .sorted();
     }
-
-    private Map<String, Object> createModelMap(List<ImportStructure> importStructure, int rowIndex) {
-        return importStructure.stream()
-                .filter(ImportStructure :: existPosition)
-                .collect(Collectors.toMap(
-                                structure -> structure.getStructure().getFieldName(),
-                                structure -> CellUtils.getValue(this.sheet, rowIndex, structure.getHeaderColumnPosition())
-                        )
-                );
-    }
 }
\ No newline at end of file
@@ -0,0 +1,351 @@
+package org.celper.core;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.celper.core.structure.ColumnStructure;
+import org.celper.exception.ExcelException;
+import org.xml.sax.SAXException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The type Excel stream reader.
+ * xlsx 파일을 usermodel Workbook 으로 올리지 않고 시트 xml 을 한 행씩 읽어서 모델로 변환합니다.
+ * 헤더는 {@link ExcelSheet#sheetToModel(Class)} 와 같은 {@code @Column} / importNameOptions 규칙으로 찾습니다.
+ * 시트를 한 행씩 읽으므로 {@link ImportOptions#parallel()} 은 지원하지 않습니다.
+ */
+public class ExcelStreamReader implements Closeable {
+    private final OPCPackage pkg;
+    private final StructureRegistrator structureRegistrator;
+    private final XSSFReader xssfReader;
+    private final SharedStrings sharedStrings;
+
+    /**
+     * Instantiates a new Excel stream reader.
+     *
+     * @param file the file
+     */
+    public ExcelStreamReader(File file) {
+        this(openPackage(file), StructureRegistrator.getDefault());
+    }
+
+    /**
+     * Instantiates a new Excel stream reader.
+     * InputStream 은 zip 전체를 메모리에 버퍼링하므로 가능하면 {@link #ExcelStreamReader(File)} 를 사용하세요.
+     *
+     * @param inputStream the input stream
+     */
+    public ExcelStreamReader(InputStream inputStream) {
+        this(openPackage(inputStream), StructureRegistrator.getDefault());
+    }
+
+    /**
+     * Instantiates a new Excel stream reader.
+     *
+     * @param pkg                  the pkg
+     * @param structureRegistrator the structure registrator
+     */
+    public ExcelStreamReader(OPCPackage pkg, StructureRegistrator structureRegistrator) {
+        this.pkg = pkg;
+        this.structureRegistrator = structureRegistrator;
+        try {
+            this.xssfReader = new XSSFReader(pkg);
+            this.sharedStrings = new ReadOnlySharedStringsTable(pkg);
+        } catch (IOException | OpenXML4JException | SAXException e) {
+            throw new ExcelException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets sheet names.
+     *
+     * @return the sheet names
+     */
+    public List<String> getSheetNames() {
+        List<String> names = new ArrayList<>();
+        XSSFReader.SheetIterator iterator = sheetIterator();
+        while (iterator.hasNext()) {
+            closeQuietly(iterator.next());
+            names.add(iterator.getSheetName());
+        }
+        return names;
+    }
+
+    /**
+     * Sheet to model stream.
+     * 첫 번째 시트를 읽습니다.
+     *
+     * @param <T>   the type parameter
+     * @param clazz the clazz
+     * @return the stream
+     */
+    public <T> Stream<T> sheetToModel(Class<T> clazz) {
+        return sheetToModel(0, clazz);
+    }
+
+    /**
+     * Sheet to model stream.
+     * 첫 번째 시트를 읽습니다.
+     *
+     * @param <T>           the type parameter
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @return the stream
+     */
+    public <T> Stream<T> sheetToModel(Class<T> clazz, ImportOptions importOptions) {
+        return sheetToModel(0, clazz, importOptions);
+    }
+
+    /**
+     * Sheet to model stream.
+     *
+     * @param <T>        the type parameter
+     * @param sheetIndex the sheet index
+     * @param clazz      the clazz
+     * @return the stream
+     */
+    public <T> Stream<T> sheetToModel(int sheetIndex, Class<T> clazz) {
+        return sheetToModel(sheetIndex, clazz, new ImportOptions());
+    }
+
+    /**
+     * Sheet to model stream.
+     *
+     * @param <T>           the type parameter
+     * @param sheetIndex    the sheet index
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @return the stream
+     */
+    public <T> Stream<T> sheetToModel(int sheetIndex, Class<T> clazz, ImportOptions importOptions) {
+        importOptions.requireSequential();
+        XSSFReader.SheetIterator iterator = sheetIterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            InputStream sheetData = iterator.next();
+            if (i == sheetIndex) {
+                return sheetToModel(iterator.getSheetName(), sheetData, clazz, importOptions);
+            }
+            closeQuietly(sheetData);
+        }
+        throw new ExcelException(String.format("%d 번째 시트가 없습니다.", sheetIndex));
+    }
+
+    /**
+     * Sheet to model stream.
+     *
+     * @param <T>       the type parameter
+     * @param sheetName the sheet name
+     * @param clazz     the clazz
+     * @return the stream
+     */
+    public <T> Stream<T> sheetToModel(String sheetName, Class<T> clazz) {
+        return sheetToModel(sheetName, clazz, new ImportOptions());
+    }
+
+    /**
+     * Sheet to model stream.
+     *
+     * @param <T>           the type parameter
+     * @param sheetName     the sheet name
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @return the stream
+     */
+    public <T> Stream<T> sheetToModel(String sheetName, Class<T> clazz, ImportOptions importOptions) {
+        importOptions.requireSequential();
+        XSSFReader.SheetIterator iterator = sheetIterator();
+        while (iterator.hasNext()) {
+            InputStream sheetData = iterator.next();
+            if (iterator.getSheetName().equals(sheetName)) {
+                return sheetToModel(sheetName, sheetData, clazz, importOptions);
+            }
+            closeQuietly(sheetData);
+        }
+        throw new ExcelException(String.format("'%s' 시트가 없습니다.", sheetName));
+    }
+
+    /**
+     * Sheet to model.
+     * 첫 번째 시트를 읽으면서 batchSize 만큼 모아서 batchConsumer 에 넘깁니다.
+     * 리스트는 재사용되므로 콜백 밖에서 보관하려면 복사해야 합니다.
+     *
+     * @param <T>           the type parameter
+     * @param clazz         the clazz
+     * @param batchSize     the batch size
+     * @param batchConsumer the batch consumer
+     */
+    public <T> void sheetToModel(Class<T> clazz, int batchSize, Consumer<List<T>> batchConsumer) {
+        sheetToModel(0, clazz, new ImportOptions(), batchSize, batchConsumer);
+    }
+
+    /**
+     * Sheet to model.
+     * 시트를 읽으면서 batchSize 만큼 모아서 batchConsumer 에 넘깁니다.
+     * 리스트는 재사용되므로 콜백 밖에서 보관하려면 복사해야 합니다.
+     *
+     * @param <T>           the type parameter
+     * @param sheetIndex    the sheet index
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @param batchSize     the batch size
+     * @param batchConsumer the batch consumer
+     */
+    public <T> void sheetToModel(int sheetIndex, Class<T> clazz, ImportOptions importOptions, int batchSize, Consumer<List<T>> batchConsumer) {
+        ModelBatch<T> modelBatch = new ModelBatch<>(batchSize, batchConsumer);
+        try (Stream<T> models = sheetToModel(sheetIndex, clazz, importOptions)) {
+            models.forEachOrdered(modelBatch);
+        }
+        modelBatch.flush();
+    }
+
+    /**
+     * Sheet to model.
+     * 시트를 읽으면서 batchSize 만큼 모아서 batchConsumer 에 넘깁니다.
+     * 리스트는 재사용되므로 콜백 밖에서 보관하려면 복사해야 합니다.
+     *
+     * @param <T>           the type parameter
+     * @param sheetName     the sheet name
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @param batchSize     the batch size
+     * @param batchConsumer the batch consumer
+     */
+    public <T> void sheetToModel(String sheetName, Class<T> clazz, ImportOptions importOptions, int batchSize, Consumer<List<T>> batchConsumer) {
+        ModelBatch<T> modelBatch = new ModelBatch<>(batchSize, batchConsumer);
+        try (Stream<T> models = sheetToModel(sheetName, clazz, importOptions)) {
+            models.forEachOrdered(modelBatch);
+        }
+        modelBatch.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.pkg.revert();
+    }
+
+    private <T> Stream<T> sheetToModel(String sheetName, InputStream sheetData, Class<T> clazz, ImportOptions importOptions) {
+        XlsxRowReader rowReader = new XlsxRowReader(sheetData, this.sharedStrings);
+        try {
+            Iterator<T> iterator = new ModelIterator<>(sheetName, rowReader, clazz, importOptions);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(() -> closeQuietly(rowReader));
+        } catch (RuntimeException e) {
+            closeQuietly(rowReader);
+            throw e;
+        }
+    }
+
+    private List<ColumnStructure> createColumnStructures(Class<?> clazz) {
+        return this.structureRegistrator.getOrDefault(clazz)
+                .stream()
+                .map(ColumnStructure::new)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private XSSFReader.SheetIterator sheetIterator() {
+        try {
+            return (XSSFReader.SheetIterator) this.xssfReader.getSheetsData();
+        } catch (IOException | InvalidFormatException e) {
+            throw new ExcelException(e.getMessage(), e);
+        }
+    }
+
+    private static OPCPackage openPackage(File file) {
+        try {
+            return OPCPackage.open(file, PackageAccess.READ);
+        } catch (InvalidFormatException e) {
+            throw new ExcelException(e.getMessage(), e);
+        }
+    }
+
+    private static OPCPackage openPackage(InputStream inputStream) {
+        try {
+            return OPCPackage.open(inputStream);
+        } catch (IOException | InvalidFormatException e) {
+            throw new ExcelException(e.getMessage(), e);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final class ModelIterator<T> implements Iterator<T> {
+        private final XlsxRowReader rowReader;
+        private final ImportMapper<T> importMapper;
+        private final Deque<Object[]> bufferedRows;
+        private Object[] nextRow;
+
+        private ModelIterator(String sheetName, XlsxRowReader rowReader, Class<T> clazz, ImportOptions importOptions) {
+            this.rowReader = rowReader;
+            this.bufferedRows = new ArrayDeque<>();
+
+            HeaderResolver headerResolver = new HeaderResolver(createColumnStructures(clazz));
+            Map<Integer, Object[]> scannedRows = new LinkedHashMap<>();
+            boolean hasRow = false;
+            while (!headerResolver.isResolved() && (hasRow = rowReader.next()) && rowReader.getRowIndex() < importOptions.getScanRowEnd()) {
+                if (importOptions.isScanRow(rowReader.getRowIndex())) {
+                    for (int colIdx = 0; colIdx < rowReader.size(); colIdx++) {
+                        if (rowReader.isStringCell(colIdx)) {
+                            headerResolver.accept(rowReader.getRowIndex(), colIdx, (String) rowReader.getValue(colIdx));
+                        }
+                    }
+                }
+                scannedRows.put(rowReader.getRowIndex(), rowReader.getValues());
+                hasRow = false;
+            }
+            int startRow = headerResolver.getStartRow(sheetName);
+            this.importMapper = ImportMapper.compile(clazz, headerResolver.getImportStructures());
+            scannedRows.forEach((rowIdx, values) -> {
+                if (rowIdx >= startRow) {
+                    this.bufferedRows.add(values);
+                }
+            });
+            if (hasRow && rowReader.getRowIndex() >= startRow) {
+                this.bufferedRows.add(rowReader.getValues()); // 탐색 범위를 벗어나서 읽힌 행
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.nextRow != null) {
+                return true;
+            }
+            if (!this.bufferedRows.isEmpty()) {
+                this.nextRow = this.bufferedRows.poll();
+            } else if (this.rowReader.next()) {
+                this.nextRow = this.rowReader.getValues();
+            }
+            return this.nextRow != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] values = this.nextRow;
+            this.nextRow = null;
+            return this.importMapper.map(colIdx -> colIdx < values.length && Objects.nonNull(values[colIdx]) ? values[colIdx] : "");
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package org.celper.core;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.celper.core.structure.CellExtractor;
+import org.celper.core.structure.CellWriters;
+import org.celper.core.structure.ColumnStructure;
+import org.celper.core.structure.RowBuffer;
+import org.celper.core.style.CellStyleRegistry;
+import org.celper.exception.DataListEmptyException;
+import org.celper.exception.ExcelException;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * The type Excel stream writer.
+ * POI usermodel(SXSSFCell 등)을 거치지 않고 xlsx 파트를 {@link ZipOutputStream} 에 바로 기록합니다.
+ * 헤더, 스타일, {@code @DefaultValue}, 셀 포맷은 {@link ExcelSheet#modelToSheet} 와 같은 {@link ColumnStructure} 규칙을 따르며,
+ * 스타일은 내부의 빈 XSSFWorkbook 에서 계산해 close 할 때 styles.xml 로 기록합니다.
+ * 시트는 호출한 순서대로 바로 기록되므로 한 시트를 다 쓴 뒤 다음 시트를 시작해야 합니다.
+ * 행을 만드는 동안 일정 행마다 출력 스트림을 flush 하므로, 다운로드 응답은 첫 행부터 바로 전송되기 시작합니다.
+ * sharedStrings / styles 파트는 마지막(close)에 기록됩니다.
+ */
+public class ExcelStreamWriter implements Closeable {
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PACKAGE_REL_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+    /**
+     * The constant DEFAULT_FLUSH_ROW_INTERVAL.
+     */
+    public static final int DEFAULT_FLUSH_ROW_INTERVAL = 1000;
+
+    private final ZipOutputStream zipOutputStream;
+    private final Writer writer;
+    private final StructureRegistrator structureRegistrator;
+    private final XSSFWorkbook styleWorkbook;
+    private final CellStyleRegistry cellStyleRegistry;
+    private final List<String> sheetNames = new ArrayList<>();
+    private XlsxSharedStrings sharedStrings;
+    private int flushRowInterval = DEFAULT_FLUSH_ROW_INTERVAL;
+    private int maxRowsPerSheet = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private boolean closed;
+
+    /**
+     * Instantiates a new Excel stream writer.
+     *
+     * @param outputStream the output stream
+     */
+    public ExcelStreamWriter(OutputStream outputStream) {
+        this(outputStream, StructureRegistrator.getDefault());
+    }
+
+    /**
+     * Instantiates a new Excel stream writer.
+     *
+     * @param outputStream         the output stream
+     * @param structureRegistrator the structure registrator
+     */
+    public ExcelStreamWriter(OutputStream outputStream, StructureRegistrator structureRegistrator) {
+        this.zipOutputStream = new ZipOutputStream(Objects.requireNonNull(outputStream, "outputStream"));
+        this.writer = new OutputStreamWriter(this.zipOutputStream, StandardCharsets.UTF_8);
+        this.structureRegistrator = structureRegistrator;
+        this.styleWorkbook = new XSSFWorkbook();
+        this.cellStyleRegistry = new CellStyleRegistry(this.styleWorkbook);
+    }
+
+    /**
+     * Sets flush row interval.
+     * 지정한 행 수마다 출력 스트림을 flush 합니다. 0 이면 파트가 끝날 때만 flush 합니다.
+     *
+     * @param flushRowInterval the flush row interval
+     * @return the flush row interval
+     */
+    public ExcelStreamWriter setFlushRowInterval(int flushRowInterval) {
+        if (flushRowInterval < 0) {
+            throw new IllegalArgumentException("flushRowInterval must not be negative");
+        }
+        this.flushRowInterval = flushRowInterval;
+        return this;
+    }
+
+    /**
+     * Sets max rows per sheet.
+     * 헤더를 포함해 maxRowsPerSheet 행이 되면 새 시트(name_2, name_3, …)에 헤더를 다시 기록하고 이어서 기록합니다.
+     * 기본값은 xlsx 의 최대 행 수(1,048,576)입니다.
+     *
+     * @param maxRowsPerSheet the max rows per sheet
+     * @return the max rows per sheet
+     */
+    public ExcelStreamWriter setMaxRowsPerSheet(int maxRowsPerSheet) {
+        if (maxRowsPerSheet < 2 || maxRowsPerSheet > SpreadsheetVersion.EXCEL2007.getMaxRows()) {
+            throw new IllegalArgumentException("maxRowsPerSheet must be between 2 and " + SpreadsheetVersion.EXCEL2007.getMaxRows());
+        }
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        return this;
+    }
+
+    /**
+     * Sets shared strings.
+     * 문자열을 sharedStrings.xml 로 모아서 마지막에 기록합니다. 같은 문자열이 많으면 파일이 작아지지만,
+     * 서로 다른 문자열 수만큼 메모리를 사용합니다. 기본값은 inline 문자열입니다.
+     *
+     * @param useSharedStrings the use shared strings
+     * @return the shared strings
+     */
+    public ExcelStreamWriter setSharedStrings(boolean useSharedStrings) {
+        if (!this.sheetNames.isEmpty()) {
+            throw new IllegalStateException("sharedStrings must be set before the first sheet");
+        }
+        this.sharedStrings = useSharedStrings ? new XlsxSharedStrings() : null;
+        return this;
+    }
+
+    /**
+     * Model to sheet.
+     *
+     * @param <T>   the type parameter
+     * @param clazz the clazz
+     * @param model the model
+     */
+    public <T> void modelToSheet(Class<T> clazz, Iterator<? extends T> model) {
+        modelToSheet(null, header -> false, clazz, model);
+    }
+
+    /**
+     * Model to sheet.
+     *
+     * @param <T>       the type parameter
+     * @param sheetName the sheet name
+     * @param clazz     the clazz
+     * @param model     the model
+     */
+    public <T> void modelToSheet(String sheetName, Class<T> clazz, Iterator<? extends T> model) {
+        modelToSheet(sheetName, header -> false, clazz, model);
+    }
+
+    /**
+     * Model to sheet.
+     *
+     * @param <T>       the type parameter
+     * @param sheetName the sheet name
+     * @param clazz     the clazz
+     * @param model     the model
+     */
+    public <T> void modelToSheet(String sheetName, Class<T> clazz, Stream<? extends T> model) {
+        if (Objects.isNull(model)) {
+            throw new DataListEmptyException("data list is empty exception");
+        }
+        modelToSheet(sheetName, header -> false, clazz, model.iterator());
+    }
+
+    /**
+     * Model to sheet.
+     *
+     * @param <T>            the type parameter
+     * @param sheetName      the sheet name, null 이면 기본 이름
+     * @param excludedHeader the excluded header
+     * @param clazz          the clazz
+     * @param model          the model
+     */
+    public <T> void modelToSheet(String sheetName, Predicate<String> excludedHeader, Class<T> clazz, Iterator<? extends T> model) {
+        if (Objects.isNull(clazz) || Objects.isNull(model)) {
+            throw new DataListEmptyException("data list is empty exception");
+        }
+        if (this.closed) {
+            throw new ExcelException("이미 닫힌 writer 입니다.");
+        }
+        writeSheet(sheetName, excludedHeader, clazz, model);
+    }
+
+    /**
+     * Close.
+     * workbook, styles, content types 파트를 기록하고 스트림을 닫습니다.
+     * 시트를 하나도 기록하지 않았으면 빈 시트 하나를 만들어서 유효한 xlsx 로 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            if (this.sheetNames.isEmpty()) {
+                writeSheet(null, header -> false, Object.class, Collections.emptyIterator());
+            }
+            writePart("[Content_Types].xml", contentTypes());
+            writePart("_rels/.rels", rootRelationships());
+            writePart("xl/workbook.xml", workbook());
+            writePart("xl/_rels/workbook.xml.rels", workbookRelationships());
+            if (Objects.nonNull(this.sharedStrings)) {
+                putNextEntry("xl/sharedStrings.xml");
+                this.sharedStrings.write(this.writer);
+                closeEntry();
+            }
+            putNextEntry("xl/styles.xml");
+            this.styleWorkbook.getStylesSource().writeTo(new FilterOutputStream(this.zipOutputStream) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() {
+                    // zip 스트림은 닫지 않음
+                }
+            });
+            this.zipOutputStream.closeEntry();
+            this.zipOutputStream.finish();
+        } finally {
+            this.styleWorkbook.close();
+            this.zipOutputStream.close();
+        }
+    }
+
+    // 닫힘 여부는 확인하지 않음. close 에서 빈 시트를 기록할 때도 사용
+    private <T> void writeSheet(String sheetName, Predicate<String> excludedHeader, Class<T> clazz, Iterator<? extends T> model) {
+        // 이름 검증과 시트 스타일 설정은 스타일 계산용 workbook 의 시트로 처리
+        Sheet settings = Objects.isNull(sheetName) ? this.styleWorkbook.createSheet() : this.styleWorkbook.createSheet(sheetName);
+        List<ColumnStructure> columnStructures = createColumnStructures(settings, excludedHeader, clazz);
+        int size = columnStructures.size();
+        String[] titles = new String[size];
+        int[] headerStyles = new int[size];
+        int[] dataStyles = new int[size];
+        CellExtractor[] extractors = new CellExtractor[size];
+        for (int colIdx = 0; colIdx < size; colIdx++) {
+            ColumnStructure columnStructure = columnStructures.get(colIdx);
+            titles[colIdx] = columnStructure.getStructure().getColumn().value();
+            headerStyles[colIdx] = columnStructure.getHeaderAreaCellStyle().getIndex();
+            dataStyles[colIdx] = columnStructure.getDataAreaCellStyle().getIndex();
+            extractors[colIdx] = CellWriters.extractor(columnStructure.getStructure());
+        }
+
+        XlsxSheetWriter sheetWriter = startSheet(settings, titles, headerStyles);
+        RowBuffer rowBuffer = new RowBuffer(size);
+        int rows = 0;
+        while (model.hasNext()) {
+            T o = model.next();
+            for (int colIdx = 0; colIdx < size; colIdx++) {
+                extractors[colIdx].extract(rowBuffer, colIdx, o);
+            }
+            if (sheetWriter.getRowCount() >= this.maxRowsPerSheet) {
+                endSheet(sheetWriter);
+                Sheet nextSettings = this.styleWorkbook.createSheet(RowCursor.nextSheetName(this.styleWorkbook, settings.getSheetName()));
+                columnStructures.forEach(columnStructure -> columnStructure.setSheetStyle(nextSettings));
+                sheetWriter = startSheet(nextSettings, titles, headerStyles);
+            }
+            sheetWriter.writeRow(rowBuffer, dataStyles);
+            if (this.flushRowInterval > 0 && ++rows % this.flushRowInterval == 0) {
+                flushOutput(sheetWriter);
+            }
+        }
+        endSheet(sheetWriter);
+    }
+
+    private List<ColumnStructure> createColumnStructures(Sheet settings, Predicate<String> excludedHeader, Class<?> clazz) {
+        return this.structureRegistrator.getOrDefault(clazz)
+                .stream()
+                .map(structure -> new ColumnStructure(this.cellStyleRegistry, structure))
+                .filter(columnStructure -> excludedHeader
+                        .negate()
+                        .test(columnStructure.getStructure().getColumn().value()))
+                .peek(columnStructure -> {
+                    columnStructure.setSheetStyle(settings);
+                    columnStructure.setColumnStyle();
+                })
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private String contentTypes() {
+        StringBuilder xml = new StringBuilder(xmlDeclaration())
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        if (Objects.nonNull(this.sharedStrings)) {
+            xml.append("<Override PartName=\"/xl/sharedStrings.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sharedStrings+xml\"/>");
+        }
+        for (int i = 1; i <= this.sheetNames.size(); i++) {
+            xml.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return xml.append("</Types>").toString();
+    }
+
+    private String rootRelationships() {
+        return xmlDeclaration() + "<Relationships xmlns=\"" + PACKAGE_REL_NS + "\">"
+                + "<Relationship Id=\"rId1\" Type=\"" + REL_NS + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                + "</Relationships>";
+    }
+
+    private String workbook() {
+        StringBuilder xml = new StringBuilder(xmlDeclaration())
+                .append("<workbook xmlns=\"").append(MAIN_NS).append("\" xmlns:r=\"").append(REL_NS).append("\"><sheets>");
+        for (int i = 1; i <= this.sheetNames.size(); i++) {
+            xml.append("<sheet name=\"").append(escapeAttribute(this.sheetNames.get(i - 1)))
+                    .append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+        }
+        return xml.append("</sheets></workbook>").toString();
+    }
+
+    private String workbookRelationships() {
+        StringBuilder xml = new StringBuilder(xmlDeclaration())
+                .append("<Relationships xmlns=\"").append(PACKAGE_REL_NS).append("\">");
+        int size = this.sheetNames.size();
+        for (int i = 1; i <= size; i++) {
+            xml.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(REL_NS)
+                    .append("/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+        }
+        xml.append("<Relationship Id=\"rId").append(size + 1).append("\" Type=\"").append(REL_NS)
+                .append("/styles\" Target=\"styles.xml\"/>");
+        if (Objects.nonNull(this.sharedStrings)) {
+            xml.append("<Relationship Id=\"rId").append(size + 2).append("\" Type=\"").append(REL_NS)
+                    .append("/sharedStrings\" Target=\"sharedStrings.xml\"/>");
+        }
+        return xml.append("</Relationships>").toString();
+    }
+
+    private XlsxSheetWriter startSheet(Sheet settings, String[] titles, int[] headerStyles) {
+        this.sheetNames.add(settings.getSheetName());
+        putNextEntry("xl/worksheets/sheet" + this.sheetNames.size() + ".xml");
+        XlsxSheetWriter sheetWriter = new XlsxSheetWriter(this.writer, titles.length, this.sharedStrings);
+        sheetWriter.start(settings);
+        sheetWriter.writeHeader(titles, headerStyles);
+        flushOutput(sheetWriter);
+        return sheetWriter;
+    }
+
+    private void endSheet(XlsxSheetWriter sheetWriter) {
+        sheetWriter.end();
+        closeEntry();
+    }
+
+    // 압축된 만큼은 바로 클라이언트로 나가도록 writer 와 출력 스트림을 flush
+    private void flushOutput(XlsxSheetWriter sheetWriter) {
+        sheetWriter.flush();
+        try {
+            this.writer.flush();
+            this.zipOutputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writePart(String name, String content) {
+        putNextEntry(name);
+        try {
+            this.writer.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        closeEntry();
+    }
+
+    private void putNextEntry(String name) {
+        try {
+            this.zipOutputStream.putNextEntry(new ZipEntry(name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeEntry() {
+        try {
+            this.writer.flush();
+            this.zipOutputStream.closeEntry();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String xmlDeclaration() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    }
+
+    private static String escapeAttribute(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -1,19 +1,35 @@
 package org.celper.core;
 
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.celper.core.style.CellStyleRegistry;
+import org.celper.exception.ExcelException;
+import org.celper.metrics.ExcelMetrics;
+import org.celper.metrics.Phase;
 import org.celper.type.WorkBookType;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * The type Excel work book.
+ * StructureRegistrator 를 받지 않는 생성자와 open 은 {@link StructureRegistrator#getDefault()} 를 사용하므로, 모든 워크북이 하나의
+ * registrator 를 공유합니다. 예전처럼 워크북마다 새 registrator 를 쓰지 않으므로 그 registrator 에 add / remove 한 내용도 모든 워크북에
+ * 적용됩니다. 워크북마다 따로 관리하려면 registrator 를 직접 넘겨야 합니다.
  */
-public class ExcelWorkBook {
-    private final Workbook _wb;
+public class ExcelWorkBook implements Closeable {
+    private final WorkbookHolder workbookHolder;
     private final StructureRegistrator structureRegistrator;
+    private final CellStyleRegistry cellStyleRegistry;
 
     /**
      * Instantiates a new Excel work book.
@@ -21,7 +37,7 @@ public class ExcelWorkBook {
      * @param workBookType the work book type
      */
     public ExcelWorkBook(WorkBookType workBookType) {
-        this(workBookType.createWorkBook());
+        this(workBookType, StructureRegistrator.getDefault());
     }
 
     /**
@@ -31,7 +47,28 @@ public class ExcelWorkBook {
      * @param structureRegistrator the structure registrator
      */
     public ExcelWorkBook(WorkBookType workBookType, StructureRegistrator structureRegistrator) {
-        this(workBookType.createWorkBook(), structureRegistrator);
+        this(workBookType, new WorkbookOptions(), structureRegistrator);
+    }
+
+    /**
+     * Instantiates a new Excel work book.
+     *
+     * @param workBookType    the work book type
+     * @param workbookOptions the workbook options
+     */
+    public ExcelWorkBook(WorkBookType workBookType, WorkbookOptions workbookOptions) {
+        this(workBookType, workbookOptions, StructureRegistrator.getDefault());
+    }
+
+    /**
+     * Instantiates a new Excel work book.
+     *
+     * @param workBookType         the work book type
+     * @param workbookOptions      the workbook options
+     * @param structureRegistrator the structure registrator
+     */
+    public ExcelWorkBook(WorkBookType workBookType, WorkbookOptions workbookOptions, StructureRegistrator structureRegistrator) {
+        this(createHolder(workBookType, workbookOptions), structureRegistrator);
     }
 
     /**
@@ -40,7 +77,7 @@ public class ExcelWorkBook {
      * @param workbook the workbook
      */
     public ExcelWorkBook(Workbook workbook) {
-        this(workbook, new StructureRegistrator());
+        this(workbook, StructureRegistrator.getDefault());
     }
 
     /**
@@ -50,8 +87,90 @@ public class ExcelWorkBook {
      * @param structureRegistrator the structure registrator
      */
     public ExcelWorkBook(Workbook workbook, StructureRegistrator structureRegistrator) {
-        this._wb = workbook;
+        this(new WorkbookHolder(workbook), structureRegistrator);
+    }
+
+    private ExcelWorkBook(WorkbookHolder workbookHolder, StructureRegistrator structureRegistrator) {
+        this.workbookHolder = workbookHolder;
         this.structureRegistrator = structureRegistrator;
+        this.cellStyleRegistry = new CellStyleRegistry(workbookHolder.get());
+    }
+
+    /**
+     * Open excel work book.
+     *
+     * @param path the path
+     * @return the excel work book
+     */
+    public static ExcelWorkBook open(Path path) {
+        return open(path, true);
+    }
+
+    /**
+     * Open excel work book.
+     *
+     * @param path     the path
+     * @param readOnly the read only
+     * @return the excel work book
+     */
+    public static ExcelWorkBook open(Path path, boolean readOnly) {
+        return open(path, readOnly, StructureRegistrator.getDefault());
+    }
+
+    /**
+     * Open excel work book.
+     * InputStream 으로 읽을 때처럼 파일 전체를 메모리에 복사하지 않고, xlsx 는 OPCPackage, xls 는 POIFSFileSystem 으로
+     * 파일에서 필요한 부분만 읽습니다. 다 사용하면 {@link #close()} 로 파일을 닫아야 합니다.
+     * readOnly 가 false 이면 close 할 때 변경 내용이 원본 파일에 저장됩니다.
+     *
+     * @param path                 the path
+     * @param readOnly             the read only
+     * @param structureRegistrator the structure registrator
+     * @return the excel work book
+     */
+    public static ExcelWorkBook open(Path path, boolean readOnly, StructureRegistrator structureRegistrator) {
+        try {
+            return new ExcelWorkBook(WorkbookFactory.create(path.toFile(), null, readOnly), structureRegistrator);
+        } catch (IOException e) {
+            throw new ExcelException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sets auto cell threshold.
+     * {@link WorkbookOptions#setAutoCellThreshold(long)} 와 같습니다. {@link WorkBookType#AUTO} 로 만든 경우에만 적용되며, 기록한 셀 수(행 수 × 컬럼 수)가 이 값을 넘으면 SXSSF 로 바뀝니다.
+     *
+     * @param cellThreshold the cell threshold
+     * @return the excel work book
+     */
+    public ExcelWorkBook setAutoCellThreshold(long cellThreshold) {
+        if (cellThreshold <= 0) {
+            throw new IllegalArgumentException("cellThreshold must be positive");
+        }
+        this.workbookHolder.setCellThreshold(cellThreshold);
+        return this;
+    }
+
+    /**
+     * Sets metrics.
+     * 이 워크북의 시트가 단계마다 시간과 행/셀 수를, {@link #write(OutputStream)} 가 기록한 바이트 수를 보고합니다.
+     * 기본값은 {@link ExcelMetrics#noop()} 입니다.
+     *
+     * @param metrics the metrics
+     * @return the excel work book
+     */
+    public ExcelWorkBook setMetrics(ExcelMetrics metrics) {
+        this.workbookHolder.setMetrics(Objects.requireNonNull(metrics, "metrics"));
+        return this;
+    }
+
+    /**
+     * Is streaming boolean.
+     *
+     * @return SXSSF 워크북이거나 AUTO 워크북이 SXSSF 로 바뀌었으면 true
+     */
+    public boolean isStreaming() {
+        return this.workbookHolder.isStreaming();
     }
 
     /**
@@ -60,7 +179,7 @@ public class ExcelWorkBook {
      * @return the excel sheet
      */
     public ExcelSheet createSheet() {
-        ExcelSheet sheet = new ExcelSheet(this._wb, this._wb.createSheet(), this.structureRegistrator);
+        ExcelSheet sheet = new ExcelSheet(this.workbookHolder, this.workbookHolder.get().createSheet(), this.structureRegistrator, this.cellStyleRegistry);
         return sheet;
     }
 
@@ -71,7 +190,7 @@ public class ExcelWorkBook {
      * @return the excel sheet
      */
     public ExcelSheet createSheet(String name) {
-        ExcelSheet sheet = new ExcelSheet(this._wb, this._wb.createSheet(name), this.structureRegistrator);
+        ExcelSheet sheet = new ExcelSheet(this.workbookHolder, this.workbookHolder.get().createSheet(name), this.structureRegistrator, this.cellStyleRegistry);
         return sheet;
     }
 
@@ -82,7 +201,7 @@ public class ExcelWorkBook {
      * @return the sheet at
      */
     public Optional<ExcelSheet> getSheetAt(int idx) {
-        return Optional.ofNullable(new ExcelSheet(this._wb,this._wb.getSheetAt(idx), this.structureRegistrator));
+        return Optional.ofNullable(new ExcelSheet(this.workbookHolder, this.workbookHolder.get().getSheetAt(idx), this.structureRegistrator, this.cellStyleRegistry));
     }
 
     /**
@@ -92,7 +211,7 @@ public class ExcelWorkBook {
      * @return the sheet by name
      */
     public Optional<ExcelSheet> getSheetByName(String name) {
-        return Optional.ofNullable(new ExcelSheet(this._wb,this._wb.getSheet(name), this.structureRegistrator));
+        return Optional.ofNullable(new ExcelSheet(this.workbookHolder, this.workbookHolder.get().getSheet(name), this.structureRegistrator, this.cellStyleRegistry));
     }
 
     /**
@@ -101,31 +220,109 @@ public class ExcelWorkBook {
      * @return the int
      */
     public int size() {
-        return this._wb.getAllNames().size();
+        return this.workbookHolder.get().getAllNames().size();
     }
 
     /**
      * Gets workbook.
+     * AUTO 워크북은 SXSSF 로 바뀐 뒤에 SXSSFWorkbook 을 반환합니다.
      *
      * @return the workbook
      */
     public Workbook getWorkbook() {
-        return _wb;
+        return this.workbookHolder.get();
+    }
+
+    /**
+     * Gets cell style registry.
+     *
+     * @return the cell style registry
+     */
+    public CellStyleRegistry getCellStyleRegistry() {
+        return cellStyleRegistry;
     }
 
     /**
      * Write.
+     * workbook 이 모두 만들어진 뒤에 기록을 시작합니다. 행을 만드는 동안 바로 내보내야 하면 {@link ExcelStreamWriter} 를 사용합니다.
      *
      * @param outputStream the output stream
      * @throws IOException the io exception
      */
     public void write(OutputStream outputStream) throws IOException {
-        this._wb.write(outputStream);
-        _wb.close();
-        if (_wb.getClass().equals(SXSSFWorkbook.class)) {
-            ((SXSSFWorkbook) _wb).dispose();
+        Workbook workbook = this.workbookHolder.get();
+        ExcelMetrics metrics = this.workbookHolder.getMetrics();
+        SheetOperation sheetOperation = SheetOperations.begin("write", null);
+        PhaseRecorder phaseRecorder = new PhaseRecorder(metrics, null);
+        CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+        try {
+            workbook.write(countingOutputStream);
+            phaseRecorder.lap(Phase.WORKBOOK_WRITE);
+            metrics.bytesWritten(countingOutputStream.getCount());
+            sheetOperation.end(workbook, countingOutputStream.getCount());
+        } finally {
+            workbook.close();
+            dispose();
+            outputStream.close();
+        }
+    }
+
+    /**
+     * Write async completable future.
+     * executor 에서 {@link #write(OutputStream)} 를 실행합니다.
+     * future 를 취소하면 다음 쓰기에서 중단하고, SXSSF 임시 파일을 지운 뒤 스트림을 닫습니다.
+     *
+     * @param outputStream the output stream
+     * @param executor     the executor
+     * @return the completable future
+     */
+    public CompletableFuture<Void> writeAsync(OutputStream outputStream, Executor executor) {
+        return CancellableTask.run(executor,
+                future -> write(CancellableTask.outputStream(outputStream, future)),
+                () -> close(outputStream));
+    }
+
+    /**
+     * Dispose.
+     * SXSSF 임시 파일을 지웁니다. 다른 형식은 아무것도 하지 않습니다.
+     */
+    public void dispose() {
+        if (this.workbookHolder.get() instanceof SXSSFWorkbook) {
+            ((SXSSFWorkbook) this.workbookHolder.get()).dispose();
+        }
+    }
+
+    /**
+     * Close.
+     * SXSSF 임시 파일을 지우고 워크북을 닫습니다. {@link #open(Path, boolean)} 으로 연 파일도 함께 닫힙니다.
+     *
+     * @throws IOException the io exception
+     */
+    @Override
+    public void close() throws IOException {
+        dispose();
+        this.workbookHolder.get().close();
+    }
+
+    private static WorkbookHolder createHolder(WorkBookType workBookType, WorkbookOptions workbookOptions) {
+        switch (workBookType) {
+            case SXSSF:
+                return new WorkbookHolder(ConfiguredSXSSFWorkbook.create(new XSSFWorkbook(), workbookOptions));
+            case AUTO:
+                return new WorkbookHolder(workBookType.createWorkBook(), workbookOptions.getAutoCellThreshold(), workbookOptions);
+            default:
+                return new WorkbookHolder(workBookType.createWorkBook());
+        }
+    }
+
+    private void close(OutputStream outputStream) {
+        dispose();
+        try {
+            this.workbookHolder.get().close();
+            outputStream.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        outputStream.close();
     }
 
 }
@@ -0,0 +1,156 @@
+package org.celper.core;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The type Export options.
+ */
+public class ExportOptions {
+    /**
+     * The constant DEFAULT_PARALLEL_CHUNK_SIZE.
+     */
+    public static final int DEFAULT_PARALLEL_CHUNK_SIZE = 1024;
+
+    private Executor executor;
+    private int parallelChunkSize = DEFAULT_PARALLEL_CHUNK_SIZE;
+    private int queueCapacity = Runtime.getRuntime().availableProcessors() * 2;
+    private boolean rollover;
+    private int maxRowsPerSheet;
+
+    /**
+     * Parallel export options.
+     * 값 추출을 {@link ForkJoinPool#commonPool()} 에서 나눠서 처리합니다.
+     *
+     * @return the export options
+     */
+    public ExportOptions parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel export options.
+     * 모델에서 값을 꺼내는 작업은 executor 에서, 시트에 기록하는 작업은 호출한 스레드에서 순서대로 처리합니다.
+     *
+     * @param executor the executor
+     * @return the export options
+     */
+    public ExportOptions parallel(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        return this;
+    }
+
+    /**
+     * Sets parallel chunk size.
+     * 한 작업이 맡는 행 수입니다.
+     *
+     * @param parallelChunkSize the parallel chunk size
+     * @return the parallel chunk size
+     */
+    public ExportOptions setParallelChunkSize(int parallelChunkSize) {
+        if (parallelChunkSize <= 0) {
+            throw new IllegalArgumentException("parallelChunkSize must be positive");
+        }
+        this.parallelChunkSize = parallelChunkSize;
+        return this;
+    }
+
+    /**
+     * Sets queue capacity.
+     * 기록을 기다리는 최대 작업 수입니다. 가득 차면 가장 오래된 작업을 기록할 때까지 모델을 더 읽지 않습니다.
+     *
+     * @param queueCapacity the queue capacity
+     * @return the queue capacity
+     */
+    public ExportOptions setQueueCapacity(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive");
+        }
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Rollover export options.
+     * 시트의 최대 행 수(xlsx 1,048,576 / xls 65,536)에 닿으면 새 시트(name_2, name_3, …)에 이어서 기록합니다.
+     *
+     * @return the export options
+     */
+    public ExportOptions rollover() {
+        this.rollover = true;
+        this.maxRowsPerSheet = 0;
+        return this;
+    }
+
+    /**
+     * Rollover export options.
+     * 헤더를 포함해 maxRowsPerSheet 행이 되면 새 시트에 헤더를 다시 기록하고 이어서 기록합니다.
+     * workbook 형식의 최대 행 수보다 크면 최대 행 수를 사용합니다.
+     *
+     * @param maxRowsPerSheet the max rows per sheet
+     * @return the export options
+     */
+    public ExportOptions rollover(int maxRowsPerSheet) {
+        if (maxRowsPerSheet < 2) {
+            throw new IllegalArgumentException("maxRowsPerSheet must be at least 2");
+        }
+        this.rollover = true;
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        return this;
+    }
+
+    /**
+     * Is rollover boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isRollover() {
+        return rollover;
+    }
+
+    /**
+     * Gets max rows per sheet.
+     *
+     * @return the max rows per sheet, 0 이면 workbook 형식의 최대 행 수
+     */
+    public int getMaxRowsPerSheet() {
+        return maxRowsPerSheet;
+    }
+
+    /**
+     * Is parallel boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isParallel() {
+        return executor != null;
+    }
+
+    /**
+     * Gets executor.
+     *
+     * @return the executor, 병렬 모드가 아니면 null
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets parallel chunk size.
+     *
+     * @return the parallel chunk size
+     */
+    public int getParallelChunkSize() {
+        return parallelChunkSize;
+    }
+
+    /**
+     * Gets queue capacity.
+     *
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+}
@@ -0,0 +1,102 @@
+package org.celper.core;
+
+import org.celper.core.structure.ColumnStructure;
+import org.celper.core.structure.ImportStructure;
+import org.celper.exception.NoSuchFieldException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The type Header resolver.
+ * 시트의 문자열 셀을 하나씩 받아서 {@link ColumnStructure} 의 import name 과 매칭합니다.
+ * usermodel 시트와 스트리밍 시트가 같은 규칙을 사용하도록 분리했습니다.
+ * 컬럼명과 importNameOptions 를 미리 HashMap 으로 색인해 두므로 셀마다 한 번의 조회로 끝납니다.
+ */
+final class HeaderResolver {
+    private final Map<String, List<ColumnStructure>> headerIndex;
+    private final Set<ColumnStructure> matched;
+    private final List<ImportStructure> importStructures;
+    private final int columnSize;
+
+    /**
+     * Instantiates a new Header resolver.
+     *
+     * @param columnStructures the column structures
+     */
+    HeaderResolver(List<ColumnStructure> columnStructures) {
+        this.headerIndex = new HashMap<>();
+        this.matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.importStructures = new ArrayList<>(columnStructures.size());
+        this.columnSize = columnStructures.size();
+        for (ColumnStructure columnStructure : columnStructures) {
+            for (String name : columnStructure.getImportNameOptions()) {
+                List<ColumnStructure> candidates = this.headerIndex.computeIfAbsent(normalize(name), key -> new ArrayList<>(1));
+                if (!candidates.contains(columnStructure)) {
+                    candidates.add(columnStructure);
+                }
+            }
+        }
+    }
+
+    /**
+     * Accept.
+     * 같은 이름을 가진 컬럼이 여러 개면 아직 매칭되지 않은 컬럼 중 먼저 정의된 컬럼이 선택됩니다.
+     *
+     * @param rowIndex the row index
+     * @param colIndex the col index
+     * @param value    the value
+     */
+    void accept(int rowIndex, int colIndex, String value) {
+        List<ColumnStructure> candidates = this.headerIndex.get(normalize(value));
+        if (candidates == null) {
+            return;
+        }
+        for (ColumnStructure candidate : candidates) {
+            if (this.matched.add(candidate)) {
+                this.importStructures.add(new ImportStructure(candidate, rowIndex, colIndex));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Is resolved boolean.
+     *
+     * @return the boolean
+     */
+    boolean isResolved() {
+        return this.matched.size() == this.columnSize;
+    }
+
+    /**
+     * Gets import structures.
+     *
+     * @return the import structures
+     */
+    List<ImportStructure> getImportStructures() {
+        return this.importStructures;
+    }
+
+    /**
+     * Gets start row.
+     *
+     * @param sheetName the sheet name
+     * @return the start row
+     */
+    int getStartRow(String sheetName) {
+        return this.importStructures.stream()// 병합을 고려해서 startRow 추출 병합 고려할려면 isMerged 만들어야함
+                .max(ImportStructure :: compareTo)
+                .orElseThrow(() -> new NoSuchFieldException(String.format("'%s' 시트에 매칭된 필드가 없습니다.", sheetName)))
+                .getHeaderRowPosition() + 1;
+    }
+
+    private static String normalize(String header) {
+        return header.trim();
+    }
+}
@@ -0,0 +1,114 @@
+package org.celper.core;
+
+import org.celper.core.structure.FieldAccessor;
+import org.celper.core.structure.ImportStructure;
+import org.celper.exception.ExcelException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * The type Import mapper.
+ * 헤더 위치가 정해진 뒤 컬럼 위치 → setter 계획을 한 번 만들어 두고,
+ * 행마다 중간 Map 없이 새 인스턴스에 바로 값을 넣습니다.
+ *
+ * @param <T> the type parameter
+ */
+final class ImportMapper<T> {
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new ExcelException(String.format("'%s' 에 기본 생성자가 없습니다.", type.getName()), e);
+            }
+        }
+    };
+
+    private final Class<T> clazz;
+    private final MethodHandle constructor;
+    private final int[] columns;
+    private final FieldAccessor[] accessors;
+    private final Function<Object, Object>[] converters;
+
+    private ImportMapper(Class<T> clazz, List<ImportStructure> importStructures) {
+        this.clazz = clazz;
+        this.constructor = CONSTRUCTORS.get(clazz);
+        int size = (int) importStructures.stream().filter(ImportStructure :: existPosition).count();
+        this.columns = new int[size];
+        this.accessors = new FieldAccessor[size];
+        this.converters = newConverters(size);
+        int i = 0;
+        for (ImportStructure importStructure : importStructures) {
+            if (!importStructure.existPosition()) {
+                continue;
+            }
+            this.columns[i] = importStructure.getHeaderColumnPosition();
+            this.accessors[i] = importStructure.getStructure().getAccessor();
+            this.converters[i] = importStructure.getStructure().getImportConverter();
+            i++;
+        }
+    }
+
+    /**
+     * Compile import mapper.
+     *
+     * @param <T>              the type parameter
+     * @param clazz            the clazz
+     * @param importStructures the import structures
+     * @return the import mapper
+     */
+    static <T> ImportMapper<T> compile(Class<T> clazz, List<ImportStructure> importStructures) {
+        return new ImportMapper<>(clazz, importStructures);
+    }
+
+    /**
+     * Map t.
+     *
+     * @param row 컬럼 위치로 셀 값을 꺼내는 함수, 빈 셀이면 "" 를 반환
+     * @return the t
+     */
+    T map(IntFunction<Object> row) {
+        T instance = newInstance();
+        for (int i = 0; i < this.columns.length; i++) {
+            Object value = this.converters[i].apply(row.apply(this.columns[i]));
+            if (value != null) {
+                this.accessors[i].set(instance, value);
+            }
+        }
+        return instance;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Object>[] newConverters(int size) {
+        return new Function[size];
+    }
+
+    /**
+     * Size int.
+     *
+     * @return 읽는 컬럼 수
+     */
+    int size() {
+        return this.columns.length;
+    }
+
+    private T newInstance() {
+        try {
+            return this.clazz.cast((Object) this.constructor.invokeExact());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ExcelException(e.getMessage(), e);
+        }
+    }
+}
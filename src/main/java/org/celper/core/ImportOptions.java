@@ -0,0 +1,182 @@
+package org.celper.core;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The type Import options.
+ */
+public class ImportOptions {
+    /**
+     * The constant DEFAULT_SCAN_ROW_RANGE.
+     */
+    public static final int DEFAULT_SCAN_ROW_RANGE = 100;
+    /**
+     * The constant DEFAULT_PARALLEL_CHUNK_SIZE.
+     */
+    public static final int DEFAULT_PARALLEL_CHUNK_SIZE = 1024;
+
+    private int scanRowRange = DEFAULT_SCAN_ROW_RANGE;
+    private int headerRowIndex = -1;
+    private Executor executor;
+    private int parallelChunkSize = DEFAULT_PARALLEL_CHUNK_SIZE;
+
+    /**
+     * Sets scan row range.
+     * 헤더를 찾을 때 탐색할 최대 행 수입니다.
+     *
+     * @param scanRowRange the scan row range
+     * @return the scan row range
+     */
+    public ImportOptions setScanRowRange(int scanRowRange) {
+        if (scanRowRange <= 0) {
+            throw new IllegalArgumentException("scanRowRange must be positive");
+        }
+        this.scanRowRange = scanRowRange;
+        return this;
+    }
+
+    /**
+     * Sets header row index.
+     * 헤더 행을 알고 있다면 지정한 행만 탐색합니다.
+     *
+     * @param headerRowIndex the header row index (0 부터 시작)
+     * @return the header row index
+     */
+    public ImportOptions setHeaderRowIndex(int headerRowIndex) {
+        if (headerRowIndex < 0) {
+            throw new IllegalArgumentException("headerRowIndex must not be negative");
+        }
+        this.headerRowIndex = headerRowIndex;
+        return this;
+    }
+
+    /**
+     * Parallel import options.
+     * 데이터 행을 나눠서 {@link ForkJoinPool#commonPool()} 에서 변환합니다.
+     * {@link ExcelSheet#sheetToModel(Class, ImportOptions)} 에서만 사용할 수 있으며, 행을 순서대로 흘려보내는
+     * stream / batch 방식({@link ExcelStreamReader}, {@link CsvReader} 포함)에 넘기면 IllegalArgumentException 이 발생합니다.
+     * XSSF 는 셀 값을 읽을 때마다 시트가 공유하는 XmlBeans 문서에 잠금을 걸기 때문에 셀 읽기는 나눠도 동시에 진행되지 않고,
+     * 모델 변환 비용만 나눠집니다. 스레드 수만큼 빨라진다고 측정된 것은 아니므로 실제 데이터로 측정한 뒤 사용해야 합니다.
+     *
+     * @return the import options
+     */
+    public ImportOptions parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel import options.
+     * 데이터 행을 나눠서 지정한 executor 에서 변환합니다. 결과의 행 순서는 유지됩니다.
+     * {@link #parallel()} 와 같은 곳에서만 사용할 수 있습니다.
+     *
+     * @param executor the executor
+     * @return the import options
+     */
+    public ImportOptions parallel(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        return this;
+    }
+
+    /**
+     * Require sequential.
+     * 병렬 변환을 지원하지 않는 곳에서 parallel 옵션을 조용히 무시하지 않도록 확인합니다.
+     *
+     * @return the import options
+     */
+    ImportOptions requireSequential() {
+        if (isParallel()) {
+            throw new IllegalArgumentException("parallel import is only supported by ExcelSheet#sheetToModel(Class, ImportOptions)");
+        }
+        return this;
+    }
+
+    /**
+     * Sets parallel chunk size.
+     * 병렬 변환 시 한 작업이 맡는 행 수입니다.
+     *
+     * @param parallelChunkSize the parallel chunk size
+     * @return the parallel chunk size
+     */
+    public ImportOptions setParallelChunkSize(int parallelChunkSize) {
+        if (parallelChunkSize <= 0) {
+            throw new IllegalArgumentException("parallelChunkSize must be positive");
+        }
+        this.parallelChunkSize = parallelChunkSize;
+        return this;
+    }
+
+    /**
+     * Gets scan row range.
+     *
+     * @return the scan row range
+     */
+    public int getScanRowRange() {
+        return scanRowRange;
+    }
+
+    /**
+     * Gets header row index.
+     *
+     * @return the header row index, 지정하지 않았으면 -1
+     */
+    public int getHeaderRowIndex() {
+        return headerRowIndex;
+    }
+
+    /**
+     * Has header row index boolean.
+     *
+     * @return the boolean
+     */
+    public boolean hasHeaderRowIndex() {
+        return headerRowIndex >= 0;
+    }
+
+    /**
+     * Is parallel boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isParallel() {
+        return executor != null;
+    }
+
+    /**
+     * Gets executor.
+     *
+     * @return the executor, 병렬 모드가 아니면 null
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets parallel chunk size.
+     *
+     * @return the parallel chunk size
+     */
+    public int getParallelChunkSize() {
+        return parallelChunkSize;
+    }
+
+    /**
+     * Is scan row boolean.
+     *
+     * @param rowIndex the row index
+     * @return the boolean
+     */
+    boolean isScanRow(int rowIndex) {
+        return hasHeaderRowIndex() ? rowIndex == headerRowIndex : rowIndex < scanRowRange;
+    }
+
+    /**
+     * Gets last scan row.
+     *
+     * @return 탐색할 마지막 행 (exclusive)
+     */
+    int getScanRowEnd() {
+        return hasHeaderRowIndex() ? headerRowIndex + 1 : scanRowRange;
+    }
+}
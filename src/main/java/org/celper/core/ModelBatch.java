@@ -0,0 +1,56 @@
+package org.celper.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The type Model batch.
+ * 모델을 batchSize 만큼 모아서 넘기고, 같은 리스트를 비워서 다시 사용합니다.
+ * 넘겨받은 리스트는 콜백이 끝나면 비워지므로 보관하려면 복사해야 합니다.
+ *
+ * @param <T> the type parameter
+ */
+final class ModelBatch<T> implements Consumer<T> {
+    private final int batchSize;
+    private final Consumer<List<T>> batchConsumer;
+    private final List<T> batch;
+
+    /**
+     * Instantiates a new Model batch.
+     *
+     * @param batchSize     the batch size
+     * @param batchConsumer the batch consumer
+     */
+    ModelBatch(int batchSize, Consumer<List<T>> batchConsumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.batchSize = batchSize;
+        this.batchConsumer = batchConsumer;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void accept(T model) {
+        batch.add(model);
+        if (batch.size() == batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Flush.
+     * 남아 있는 모델을 넘깁니다.
+     */
+    void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            batchConsumer.accept(batch);
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.celper.core;
+
+import org.celper.metrics.ExcelMetrics;
+import org.celper.metrics.Phase;
+
+/**
+ * The type Phase recorder.
+ * 직전 보고 이후 걸린 시간을 단계별로 {@link ExcelMetrics} 에 넘깁니다.
+ * 행 단위 단계는 매 행이 아니라 {@link #BATCH_ROWS} 행마다 한 번씩 보고하므로 행마다 시간을 재지 않습니다.
+ * 한 스레드에서만 사용해야 합니다.
+ */
+final class PhaseRecorder {
+    /**
+     * The constant BATCH_ROWS.
+     */
+    static final int BATCH_ROWS = 1024;
+
+    private final ExcelMetrics metrics;
+    private final Class<?> modelClass;
+    private long start;
+    private Phase rowPhase;
+    private int columnCount;
+    private int rows;
+    private long totalRows;
+
+    /**
+     * Instantiates a new Phase recorder.
+     *
+     * @param metrics    the metrics
+     * @param modelClass the model class
+     */
+    PhaseRecorder(ExcelMetrics metrics, Class<?> modelClass) {
+        this.metrics = metrics;
+        this.modelClass = modelClass;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Lap.
+     *
+     * @param phase the phase
+     */
+    void lap(Phase phase) {
+        lap(phase, 0, 0);
+    }
+
+    /**
+     * Lap.
+     *
+     * @param phase the phase
+     * @param rows  the rows
+     * @param cells the cells
+     */
+    void lap(Phase phase, long rows, long cells) {
+        long now = System.nanoTime();
+        metrics.record(phase, modelClass, now - start, rows, cells);
+        this.start = now;
+    }
+
+    /**
+     * Start rows.
+     * 이후 {@link #row()} 로 센 행을 phase 로 보고합니다.
+     *
+     * @param phase       the phase
+     * @param columnCount the column count
+     */
+    void startRows(Phase phase, int columnCount) {
+        this.rowPhase = phase;
+        this.columnCount = columnCount;
+        this.rows = 0;
+    }
+
+    /**
+     * Row.
+     */
+    void row() {
+        totalRows++;
+        if (++rows == BATCH_ROWS) {
+            flushRows();
+        }
+    }
+
+    /**
+     * Gets total rows.
+     *
+     * @return {@link #row()} 로 센 전체 행 수
+     */
+    long getTotalRows() {
+        return totalRows;
+    }
+
+    /**
+     * Flush rows.
+     * 아직 보고하지 않은 행을 보고합니다.
+     */
+    void flushRows() {
+        if (rows == 0) {
+            return;
+        }
+        lap(rowPhase, rows, (long) rows * columnCount);
+        this.rows = 0;
+    }
+}
@@ -0,0 +1,141 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.celper.core.structure.CellExtractor;
+import org.celper.core.structure.CellWriters;
+import org.celper.core.structure.ColumnStructure;
+import org.celper.core.structure.RowBuffer;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The type Pipelined row writer.
+ * 모델을 chunk 단위로 나눠 executor 에서 {@link RowBuffer} 로 추출하고,
+ * 호출한 스레드 하나만 순서대로 시트에 기록합니다. POI 객체는 호출한 스레드에서만 다룹니다.
+ * 기록을 기다리는 chunk 는 queueCapacity 개를 넘지 않고, 기록이 끝난 chunk 는 재사용합니다.
+ */
+final class PipelinedRowWriter {
+    private final CellExtractor[] extractors;
+    private final CellStyle[] dataStyles;
+    private final ExportOptions exportOptions;
+    private final ColumnWidthTracker columnWidthTracker;
+    private final PhaseRecorder phaseRecorder;
+    private final Deque<Chunk> freeChunks = new ArrayDeque<>();
+    private final Deque<CompletableFuture<Chunk>> pendingChunks = new ArrayDeque<>();
+
+    /**
+     * Instantiates a new Pipelined row writer.
+     *
+     * @param columnStructures   the column structures
+     * @param exportOptions      the export options
+     * @param columnWidthTracker the column width tracker
+     * @param phaseRecorder      the phase recorder
+     */
+    PipelinedRowWriter(List<ColumnStructure> columnStructures, ExportOptions exportOptions, ColumnWidthTracker columnWidthTracker,
+                       PhaseRecorder phaseRecorder) {
+        int size = columnStructures.size();
+        this.extractors = new CellExtractor[size];
+        this.dataStyles = new CellStyle[size];
+        for (int colIdx = 0; colIdx < size; colIdx++) {
+            ColumnStructure columnStructure = columnStructures.get(colIdx);
+            this.extractors[colIdx] = CellWriters.extractor(columnStructure.getStructure());
+            this.dataStyles[colIdx] = columnStructure.getDataAreaCellStyle();
+        }
+        this.exportOptions = exportOptions;
+        this.columnWidthTracker = columnWidthTracker;
+        this.phaseRecorder = phaseRecorder;
+    }
+
+    /**
+     * Write.
+     *
+     * @param rowCursor the row cursor
+     * @param model     the model
+     */
+    void write(RowCursor rowCursor, Iterator<?> model) {
+        try {
+            while (model.hasNext()) {
+                Chunk chunk = freeChunk();
+                chunk.fill(model);
+                if (pendingChunks.size() >= exportOptions.getQueueCapacity()) {
+                    writeOldest(rowCursor);
+                }
+                pendingChunks.add(CompletableFuture.supplyAsync(chunk :: extract, exportOptions.getExecutor()));
+            }
+            while (!pendingChunks.isEmpty()) {
+                writeOldest(rowCursor);
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            // 정상 종료면 비어 있음. 추출, 원본 iterator, 기록 중 어디서 실패하든 아직 시작하지 않은 추출은 실행하지 않음
+            pendingChunks.forEach(chunk -> chunk.cancel(false));
+            pendingChunks.clear();
+        }
+    }
+
+    private void writeOldest(RowCursor rowCursor) {
+        Chunk chunk = pendingChunks.poll().join();
+        for (int i = 0; i < chunk.count; i++) {
+            RowBuffer buffer = chunk.rows[i];
+            Row row = rowCursor.next();
+            for (int colIdx = 0; colIdx < extractors.length; colIdx++) {
+                buffer.writeTo(colIdx, row.getCell(colIdx));
+                row.getCell(colIdx).setCellStyle(dataStyles[colIdx]);
+            }
+            columnWidthTracker.track(row, buffer);
+            phaseRecorder.row();
+        }
+        chunk.reset();
+        freeChunks.add(chunk);
+    }
+
+    private Chunk freeChunk() {
+        Chunk chunk = freeChunks.poll();
+        return chunk != null ? chunk : new Chunk(exportOptions.getParallelChunkSize(), extractors.length);
+    }
+
+    private final class Chunk {
+        private final Object[] models;
+        private final RowBuffer[] rows;
+        private int count;
+
+        private Chunk(int chunkSize, int columnCount) {
+            this.models = new Object[chunkSize];
+            this.rows = new RowBuffer[chunkSize];
+            for (int i = 0; i < chunkSize; i++) {
+                this.rows[i] = new RowBuffer(columnCount);
+            }
+        }
+
+        private void fill(Iterator<?> model) {
+            while (count < models.length && model.hasNext()) {
+                models[count++] = model.next();
+            }
+        }
+
+        private Chunk extract() {
+            for (int i = 0; i < count; i++) {
+                for (int colIdx = 0; colIdx < extractors.length; colIdx++) {
+                    extractors[colIdx].extract(rows[i], colIdx, models[i]);
+                }
+            }
+            return this;
+        }
+
+        private void reset() {
+            Arrays.fill(models, 0, count, null);
+            count = 0;
+        }
+    }
+}
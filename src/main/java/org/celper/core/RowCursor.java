@@ -0,0 +1,91 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.function.Consumer;
+
+/**
+ * The type Row cursor.
+ * 다음 데이터 행을 만들고, 행 수가 maxRows 에 닿으면 새 시트(name_2, name_3, …)로 넘어갑니다.
+ * 새 시트에는 headerWriter 로 헤더를 다시 기록합니다.
+ */
+final class RowCursor {
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+
+    private final WorkbookHolder workbookHolder;
+    private final String baseName;
+    private final int columnCount;
+    private final int maxRows;
+    private final Consumer<Sheet> headerWriter;
+    private Sheet sheet;
+    private int rowIndex;
+
+    /**
+     * Instantiates a new Row cursor.
+     *
+     * @param workbookHolder the workbook holder
+     * @param sheet          the sheet
+     * @param rowIndex       the first data row index
+     * @param columnCount    the column count
+     * @param maxRows        시트당 최대 행 수(헤더 포함), 0 이면 넘어가지 않음
+     * @param headerWriter   새 시트에 헤더를 기록
+     */
+    RowCursor(WorkbookHolder workbookHolder, Sheet sheet, int rowIndex, int columnCount, int maxRows, Consumer<Sheet> headerWriter) {
+        this.workbookHolder = workbookHolder;
+        this.baseName = sheet.getSheetName();
+        this.sheet = sheet;
+        this.rowIndex = rowIndex;
+        this.columnCount = columnCount;
+        this.maxRows = maxRows;
+        this.headerWriter = headerWriter;
+    }
+
+    /**
+     * Next row.
+     *
+     * @return the row
+     */
+    Row next() {
+        workbookHolder.addCells(columnCount);
+        sheet = workbookHolder.current(sheet);
+        if (maxRows > 0 && rowIndex >= maxRows) {
+            sheet = workbookHolder.get().createSheet(nextSheetName(workbookHolder.get(), baseName));
+            headerWriter.accept(sheet);
+            rowIndex = 1;
+        }
+        return CellUtils.createRow(sheet, rowIndex++, columnCount);
+    }
+
+    /**
+     * Sheet name string.
+     * 시트 이름 길이 제한(31자)을 넘지 않도록 앞부분을 자릅니다.
+     *
+     * @param baseName    the base name
+     * @param sheetNumber the sheet number
+     * @return the string
+     */
+    static String sheetName(String baseName, int sheetNumber) {
+        String suffix = "_" + sheetNumber;
+        int length = Math.min(baseName.length(), MAX_SHEET_NAME_LENGTH - suffix.length());
+        return baseName.substring(0, length) + suffix;
+    }
+
+    /**
+     * Next sheet name string.
+     * workbook 에 아직 없는 baseName_2, baseName_3, … 중 첫 번째 이름입니다.
+     *
+     * @param workbook the workbook
+     * @param baseName the base name
+     * @return the string
+     */
+    static String nextSheetName(Workbook workbook, String baseName) {
+        String name;
+        int sheetNumber = 1;
+        do {
+            name = sheetName(baseName, ++sheetNumber);
+        } while (workbook.getSheet(name) != null);
+        return name;
+    }
+}
@@ -0,0 +1,41 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * The interface Sheet operation.
+ * {@link SheetOperations#begin(String, Class)} 로 시작한 시트 작업 하나입니다. 작업이 끝나면 {@link #end} 를 호출합니다.
+ */
+interface SheetOperation {
+    /**
+     * 기록하지 않는 작업입니다.
+     */
+    SheetOperation NONE = new SheetOperation() {
+        @Override
+        public void end(String sheetName, Workbook workbook, long rows, int columns) {
+        }
+
+        @Override
+        public void end(Workbook workbook, long bytes) {
+        }
+    };
+
+    /**
+     * End.
+     *
+     * @param sheetName the sheet name
+     * @param workbook  the workbook
+     * @param rows      the rows
+     * @param columns   the columns
+     */
+    void end(String sheetName, Workbook workbook, long rows, int columns);
+
+    /**
+     * End.
+     * 시트와 관계없는 {@code Workbook.write} 작업을 끝냅니다.
+     *
+     * @param workbook the workbook
+     * @param bytes    the bytes
+     */
+    void end(Workbook workbook, long bytes);
+}
@@ -0,0 +1,50 @@
+package org.celper.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * The type Sheet operations.
+ * 시트 작업을 Java Flight Recorder 이벤트({@code org.celper.SheetOperation})로 기록합니다.
+ * jdk.jfr 이 있고 JfrSheetOperation 이 함께 빌드되었을 때만(JDK 11 이상, pom 의 jfr 프로필) 불러오므로 Java 8 에서도 동작하며,
+ * 기록 중이 아니면 {@link SheetOperation#NONE} 을 돌려주고 아무것도 하지 않습니다.
+ */
+final class SheetOperations {
+    private static final MethodHandle BEGIN = findBegin();
+
+    private SheetOperations() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Begin sheet operation.
+     *
+     * @param name       the name
+     * @param modelClass the model class, 모델과 관계없는 작업은 null
+     * @return the sheet operation
+     */
+    static SheetOperation begin(String name, Class<?> modelClass) {
+        if (BEGIN == null) {
+            return SheetOperation.NONE;
+        }
+        try {
+            return (SheetOperation) BEGIN.invokeExact(name, modelClass);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            return SheetOperation.NONE;
+        }
+    }
+
+    private static MethodHandle findBegin() {
+        try {
+            Class.forName("jdk.jfr.Event", false, SheetOperations.class.getClassLoader());
+            Class<?> eventClass = Class.forName("org.celper.core.JfrSheetOperation", true, SheetOperations.class.getClassLoader());
+            return MethodHandles.lookup().findStatic(eventClass, "begin",
+                    MethodType.methodType(SheetOperation.class, String.class, Class.class));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -1,25 +1,71 @@
 package org.celper.core;
 
+import org.celper.core.structure.ModelAccessors;
 import org.celper.core.structure.Structure;
 import org.celper.util.ReflectionUtils;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * The type Structure registrator.
+ * 클래스별 {@link Structure} 를 한 번만 만들어 보관합니다. 여러 스레드에서 하나의 인스턴스를 공유해도 안전합니다.
  */
 public final class StructureRegistrator {
-    private final Map<Class<?>, List<Structure>> structureMap;
+    private static final StructureRegistrator DEFAULT = weakKeys();
+
+    private final StructureCache structureCache;
 
     /**
      * Instantiates a new Structure registrator.
      */
     public StructureRegistrator() {
-        this.structureMap = new HashMap<>();
+        this.structureCache = new ConcurrentStructureCache();
+    }
+
+    private StructureRegistrator(StructureCache structureCache) {
+        this.structureCache = structureCache;
+    }
+
+    /**
+     * Gets default.
+     * 라이브러리 전체에서 공유하는 weak-key 인스턴스입니다.
+     *
+     * @return the default
+     */
+    public static StructureRegistrator getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Bounded structure registrator.
+     * 최근에 사용하지 않은 클래스부터 제거합니다.
+     *
+     * @param maximumSize the maximum size
+     * @return the structure registrator
+     */
+    public static StructureRegistrator bounded(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        return new StructureRegistrator(new BoundedStructureCache(maximumSize));
+    }
+
+    /**
+     * Weak keys structure registrator.
+     * 값이 클래스에 묶여 있어 재배포된 클래스로더의 클래스를 붙잡지 않습니다.
+     *
+     * @return the structure registrator
+     */
+    public static StructureRegistrator weakKeys() {
+        return new StructureRegistrator(new WeakKeyStructureCache());
     }
 
     /**
@@ -29,7 +75,7 @@ public final class StructureRegistrator {
      * @return the or default
      */
     public List<Structure> getOrDefault(Class<?> clazz) {
-        return structureMap.get(clazz) == null ? createStructures(clazz) : structureMap.get(clazz);
+        return structureCache.computeIfAbsent(clazz, StructureRegistrator :: createStructures);
     }
 
     /**
@@ -38,16 +84,131 @@ public final class StructureRegistrator {
      * @param clazz the clazz
      */
     public void add(Class<?> clazz) {
-        structureMap.put(clazz, createStructures(clazz));
+        structureCache.put(clazz, createStructures(clazz));
     }
 
-    private List<Structure> createStructures(Class<?> clazz) {
+    // 직접 만든 Structure 를 등록 (테스트에서 접근자를 바꿔 끼울 때 사용)
+    void put(Class<?> clazz, List<Structure> structures) {
+        structureCache.put(clazz, structures);
+    }
+
+    /**
+     * Remove.
+     *
+     * @param clazz the clazz
+     */
+    public void remove(Class<?> clazz) {
+        structureCache.remove(clazz);
+    }
+
+    private static List<Structure> createStructures(Class<?> clazz) {
         AtomicInteger atomicInteger = new AtomicInteger(0);
-        return ReflectionUtils.getDeclaredFields(clazz)
+        ModelAccessors modelAccessors = findModelAccessors(clazz);
+        return Collections.unmodifiableList(ReflectionUtils.getDeclaredFields(clazz)
                 .stream()
                 .filter(Structure :: existsColumnAnnotation)
-                .map(field -> new Structure(clazz, field, atomicInteger.getAndIncrement()))
-                .collect(Collectors.toList());
+                .map(field -> new Structure(clazz, field, atomicInteger.getAndIncrement(), modelAccessors))
+                .collect(Collectors.toList()));
+    }
+
+    // ModelAccessorProcessor 로 생성된 클래스가 있으면 사용하고, 없으면 null (MethodHandle 사용)
+    private static ModelAccessors findModelAccessors(Class<?> clazz) {
+        String binaryName = clazz.getName();
+        int packageEnd = binaryName.lastIndexOf('.');
+        String generatedName = ModelAccessors.generatedClassName(packageEnd < 0 ? "" : binaryName.substring(0, packageEnd), binaryName);
+        try {
+            Class<?> generated = Class.forName(generatedName, true, clazz.getClassLoader());
+            return ModelAccessors.class.isAssignableFrom(generated)
+                    ? (ModelAccessors) ReflectionUtils.getInstance(generated)
+                    : null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private interface StructureCache {
+        List<Structure> computeIfAbsent(Class<?> clazz, Function<Class<?>, List<Structure>> function);
+
+        void put(Class<?> clazz, List<Structure> structures);
+
+        void remove(Class<?> clazz);
     }
 
+    private static final class ConcurrentStructureCache implements StructureCache {
+        private final Map<Class<?>, List<Structure>> structureMap = new ConcurrentHashMap<>();
+
+        @Override
+        public List<Structure> computeIfAbsent(Class<?> clazz, Function<Class<?>, List<Structure>> function) {
+            List<Structure> structures = structureMap.get(clazz); // 조회가 대부분이라 잠금 없이 먼저 확인
+            return structures != null ? structures : structureMap.computeIfAbsent(clazz, function);
+        }
+
+        @Override
+        public void put(Class<?> clazz, List<Structure> structures) {
+            structureMap.put(clazz, structures);
+        }
+
+        @Override
+        public void remove(Class<?> clazz) {
+            structureMap.remove(clazz);
+        }
+    }
+
+    private static final class BoundedStructureCache implements StructureCache {
+        private final Map<Class<?>, List<Structure>> structureMap;
+
+        private BoundedStructureCache(int maximumSize) {
+            this.structureMap = new LinkedHashMap<Class<?>, List<Structure>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Class<?>, List<Structure>> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        @Override
+        public synchronized List<Structure> computeIfAbsent(Class<?> clazz, Function<Class<?>, List<Structure>> function) {
+            return structureMap.computeIfAbsent(clazz, function);
+        }
+
+        @Override
+        public synchronized void put(Class<?> clazz, List<Structure> structures) {
+            structureMap.put(clazz, structures);
+        }
+
+        @Override
+        public synchronized void remove(Class<?> clazz) {
+            structureMap.remove(clazz);
+        }
+    }
+
+    // 클래스마다 한 번 만든 holder 를 ClassValue 에 두고 값만 바꾸므로, put / remove 가 한 번의 원자적 교체로 끝남
+    private static final class WeakKeyStructureCache implements StructureCache {
+        private final ClassValue<AtomicReference<List<Structure>>> structureValue = new ClassValue<AtomicReference<List<Structure>>>() {
+            @Override
+            protected AtomicReference<List<Structure>> computeValue(Class<?> type) {
+                return new AtomicReference<>();
+            }
+        };
+
+        @Override
+        public List<Structure> computeIfAbsent(Class<?> clazz, Function<Class<?>, List<Structure>> function) {
+            AtomicReference<List<Structure>> holder = structureValue.get(clazz);
+            List<Structure> structures;
+            while ((structures = holder.get()) == null) {
+                holder.compareAndSet(null, function.apply(clazz));
+            }
+            return structures;
+        }
+
+        @Override
+        public void put(Class<?> clazz, List<Structure> structures) {
+            structureValue.get(clazz).set(structures);
+        }
+
+        @Override
+        public void remove(Class<?> clazz) {
+            structureValue.get(clazz).set(null);
+        }
+    }
 }
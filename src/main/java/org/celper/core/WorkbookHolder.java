@@ -0,0 +1,134 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.celper.metrics.ExcelMetrics;
+
+/**
+ * The type Workbook holder.
+ * {@link org.celper.type.WorkBookType#AUTO} 워크북을 XSSF 로 시작하고, 기록한 셀 수(행 수 × 컬럼 수)가 기준을 넘으면
+ * 같은 워크북을 감싼 SXSSF 로 바꿉니다. 이미 기록된 행은 XSSF 에 남고 이후 행부터 임시 파일로 내보냅니다.
+ * 스타일은 XSSF 의 StylesTable 을 그대로 공유하므로 바꾼 뒤에도 유효합니다.
+ */
+final class WorkbookHolder {
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final WorkbookOptions workbookOptions;
+    private Workbook workbook;
+    private long cellThreshold;
+    private long cells;
+    private ExcelMetrics metrics = ExcelMetrics.noop();
+
+    /**
+     * Instantiates a new Workbook holder.
+     * 바꾸지 않는 워크북입니다.
+     *
+     * @param workbook the workbook
+     */
+    WorkbookHolder(Workbook workbook) {
+        this(workbook, NEVER, new WorkbookOptions());
+    }
+
+    /**
+     * Instantiates a new Workbook holder.
+     *
+     * @param workbook        the workbook
+     * @param cellThreshold   SXSSF 로 바꿀 셀 수
+     * @param workbookOptions SXSSF 로 바꿀 때 사용할 설정
+     */
+    WorkbookHolder(Workbook workbook, long cellThreshold, WorkbookOptions workbookOptions) {
+        this.workbook = workbook;
+        this.cellThreshold = workbook instanceof XSSFWorkbook ? cellThreshold : NEVER;
+        this.workbookOptions = workbookOptions;
+    }
+
+    /**
+     * Get workbook.
+     *
+     * @return 현재 워크북, 바뀐 뒤에는 SXSSF
+     */
+    Workbook get() {
+        return this.workbook;
+    }
+
+    /**
+     * Gets metrics.
+     *
+     * @return the metrics
+     */
+    ExcelMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Sets metrics.
+     * 같은 워크북에서 만든 시트가 함께 사용합니다.
+     *
+     * @param metrics the metrics
+     */
+    void setMetrics(ExcelMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets cell threshold.
+     *
+     * @param cellThreshold the cell threshold
+     */
+    void setCellThreshold(long cellThreshold) {
+        if (this.cellThreshold != NEVER) {
+            this.cellThreshold = cellThreshold;
+        }
+    }
+
+    /**
+     * Is streaming boolean.
+     *
+     * @return the boolean
+     */
+    boolean isStreaming() {
+        return this.workbook instanceof SXSSFWorkbook;
+    }
+
+    /**
+     * Add cells.
+     *
+     * @param count 새로 만든 셀 수
+     */
+    void addCells(long count) {
+        this.cells += count;
+        if (this.cells >= this.cellThreshold) {
+            switchToStreaming();
+        }
+    }
+
+    /**
+     * Reserve.
+     * 기록할 양을 미리 알 때, 기준을 넘을 것 같으면 기록하기 전에 바꿉니다.
+     *
+     * @param rows    the rows
+     * @param columns the columns
+     */
+    void reserve(long rows, int columns) {
+        if (this.cellThreshold != NEVER && this.cells + rows * columns >= this.cellThreshold) {
+            switchToStreaming();
+        }
+    }
+
+    /**
+     * Current sheet.
+     *
+     * @param sheet the sheet
+     * @return 워크북이 바뀌었으면 같은 이름의 SXSSF 시트
+     */
+    Sheet current(Sheet sheet) {
+        return sheet.getWorkbook() == this.workbook ? sheet : this.workbook.getSheet(sheet.getSheetName());
+    }
+
+    private void switchToStreaming() {
+        this.workbook = ConfiguredSXSSFWorkbook.create((XSSFWorkbook) this.workbook, this.workbookOptions);
+        this.cellThreshold = NEVER;
+    }
+}
@@ -0,0 +1,136 @@
+package org.celper.core;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * The type Workbook options.
+ * SXSSF 워크북({@link org.celper.type.WorkBookType#SXSSF}, SXSSF 로 바뀐 뒤의 {@link org.celper.type.WorkBookType#AUTO})의
+ * 메모리 / 디스크 사용 방식을 정합니다. 다른 형식에서는 사용하지 않습니다.
+ */
+public class WorkbookOptions {
+    /**
+     * The constant DEFAULT_AUTO_CELL_THRESHOLD.
+     * XSSF 는 셀 하나에 대략 1KB 정도를 사용하므로 약 200MB 전후에서 SXSSF 로 바뀝니다.
+     */
+    public static final long DEFAULT_AUTO_CELL_THRESHOLD = 200_000;
+
+    private int rowAccessWindow = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+    private boolean compressTempFiles;
+    private Path tempDirectory;
+    private boolean sharedStrings;
+    private long autoCellThreshold = DEFAULT_AUTO_CELL_THRESHOLD;
+
+    /**
+     * Sets row access window.
+     * 메모리에 남겨 두는 행 수입니다. -1 이면 내보내지 않고 모두 메모리에 둡니다.
+     *
+     * @param rowAccessWindow the row access window
+     * @return the row access window
+     */
+    public WorkbookOptions setRowAccessWindow(int rowAccessWindow) {
+        if (rowAccessWindow <= 0 && rowAccessWindow != -1) {
+            throw new IllegalArgumentException("rowAccessWindow must be positive or -1");
+        }
+        this.rowAccessWindow = rowAccessWindow;
+        return this;
+    }
+
+    /**
+     * Compress temp files workbook options.
+     * 임시 파일을 gzip 으로 압축합니다. 디스크 사용량과 I/O 는 줄고 CPU 사용량은 늘어납니다.
+     *
+     * @param compressTempFiles the compress temp files
+     * @return the workbook options
+     */
+    public WorkbookOptions compressTempFiles(boolean compressTempFiles) {
+        this.compressTempFiles = compressTempFiles;
+        return this;
+    }
+
+    /**
+     * Sets temp directory.
+     * 이 워크북의 임시 파일만 이 디렉토리에 만듭니다. 없으면 만들며, 지정하지 않으면 java.io.tmpdir 를 사용합니다.
+     *
+     * @param tempDirectory the temp directory
+     * @return the temp directory
+     */
+    public WorkbookOptions setTempDirectory(Path tempDirectory) {
+        this.tempDirectory = Objects.requireNonNull(tempDirectory, "tempDirectory");
+        return this;
+    }
+
+    /**
+     * Shared strings workbook options.
+     * 문자열을 sharedStrings 파트에 모읍니다. 같은 문자열이 많으면 파일이 작아지지만 문자열 표는 메모리에 남습니다.
+     *
+     * @param sharedStrings the shared strings
+     * @return the workbook options
+     */
+    public WorkbookOptions sharedStrings(boolean sharedStrings) {
+        this.sharedStrings = sharedStrings;
+        return this;
+    }
+
+    /**
+     * Sets auto cell threshold.
+     * {@link org.celper.type.WorkBookType#AUTO} 에서 기록한 셀 수(행 수 × 컬럼 수)가 이 값을 넘으면 SXSSF 로 바뀝니다.
+     *
+     * @param autoCellThreshold the auto cell threshold
+     * @return the auto cell threshold
+     */
+    public WorkbookOptions setAutoCellThreshold(long autoCellThreshold) {
+        if (autoCellThreshold <= 0) {
+            throw new IllegalArgumentException("cellThreshold must be positive");
+        }
+        this.autoCellThreshold = autoCellThreshold;
+        return this;
+    }
+
+    /**
+     * Gets row access window.
+     *
+     * @return the row access window
+     */
+    public int getRowAccessWindow() {
+        return rowAccessWindow;
+    }
+
+    /**
+     * Is compress temp files boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isCompressTempFiles() {
+        return compressTempFiles;
+    }
+
+    /**
+     * Gets temp directory.
+     *
+     * @return the temp directory, null 이면 java.io.tmpdir
+     */
+    public Path getTempDirectory() {
+        return tempDirectory;
+    }
+
+    /**
+     * Is shared strings boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isSharedStrings() {
+        return sharedStrings;
+    }
+
+    /**
+     * Gets auto cell threshold.
+     *
+     * @return the auto cell threshold
+     */
+    public long getAutoCellThreshold() {
+        return autoCellThreshold;
+    }
+}
@@ -0,0 +1,216 @@
+package org.celper.core;
+
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.celper.exception.ExcelException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The type Xlsx row reader.
+ * sheetN.xml 을 StAX 로 한 행씩 당겨 읽습니다. 셀 값은 {@link CellUtils#getValue(org.apache.poi.ss.usermodel.Cell)} 와
+ * 같은 타입(Double, Boolean, String)으로 변환됩니다.
+ */
+final class XlsxRowReader implements Closeable {
+    private final InputStream inputStream;
+    private final XMLStreamReader reader;
+    private final SharedStrings sharedStrings;
+    private final List<Object> values;
+    private final List<String> headerCandidates;
+    private int rowIndex;
+
+    /**
+     * Instantiates a new Xlsx row reader.
+     *
+     * @param inputStream   the sheet xml input stream
+     * @param sharedStrings the shared strings
+     */
+    XlsxRowReader(InputStream inputStream, SharedStrings sharedStrings) {
+        this.inputStream = inputStream;
+        this.sharedStrings = sharedStrings;
+        this.values = new ArrayList<>();
+        this.headerCandidates = new ArrayList<>();
+        this.rowIndex = -1;
+        try {
+            this.reader = XMLHelper.newXMLInputFactory().createXMLStreamReader(inputStream);
+        } catch (XMLStreamException e) {
+            throw new ExcelException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Next boolean.
+     *
+     * @return 다음 행이 있으면 true
+     */
+    boolean next() {
+        try {
+            while (this.reader.hasNext()) {
+                int event = this.reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = this.reader.getLocalName();
+                    if ("row".equals(name)) {
+                        startRow();
+                    } else if ("c".equals(name)) {
+                        readCell();
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(this.reader.getLocalName())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (XMLStreamException e) {
+            throw new ExcelException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets row index.
+     *
+     * @return the row index
+     */
+    int getRowIndex() {
+        return this.rowIndex;
+    }
+
+    /**
+     * Gets values.
+     * 비어있는 셀은 null 입니다.
+     *
+     * @return the values
+     */
+    Object[] getValues() {
+        return this.values.toArray();
+    }
+
+    /**
+     * Gets value.
+     *
+     * @param colIndex the col index
+     * @return the value
+     */
+    Object getValue(int colIndex) {
+        return colIndex < this.values.size() ? this.values.get(colIndex) : null;
+    }
+
+    /**
+     * Size int.
+     *
+     * @return the int
+     */
+    int size() {
+        return this.values.size();
+    }
+
+    /**
+     * Is string cell boolean.
+     * usermodel 의 {@code CellType.STRING} 에 해당하는 셀(shared / inline string)인지 확인합니다.
+     *
+     * @param colIndex the col index
+     * @return the boolean
+     */
+    boolean isStringCell(int colIndex) {
+        return colIndex < this.headerCandidates.size() && this.headerCandidates.get(colIndex) != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            this.inputStream.close();
+        }
+    }
+
+    private void startRow() {
+        String r = this.reader.getAttributeValue(null, "r");
+        this.rowIndex = r == null ? this.rowIndex + 1 : Integer.parseInt(r) - 1;
+        this.values.clear();
+        this.headerCandidates.clear();
+    }
+
+    private void readCell() throws XMLStreamException {
+        String ref = this.reader.getAttributeValue(null, "r");
+        String type = this.reader.getAttributeValue(null, "t");
+        int colIndex = ref == null ? this.values.size() : columnIndex(ref);
+        String value = null;
+        StringBuilder inline = null;
+        while (this.reader.hasNext()) {
+            int event = this.reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = this.reader.getLocalName();
+                if ("v".equals(name)) {
+                    value = this.reader.getElementText();
+                } else if ("t".equals(name)) {
+                    inline = inline == null ? new StringBuilder() : inline;
+                    inline.append(this.reader.getElementText());
+                } else if ("rPh".equals(name)) {
+                    skipElement();
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(this.reader.getLocalName())) {
+                break;
+            }
+        }
+        while (this.values.size() <= colIndex) {
+            this.values.add(null);
+            this.headerCandidates.add(null);
+        }
+        Object cellValue = toValue(type, value, inline);
+        this.values.set(colIndex, cellValue);
+        if ("s".equals(type) || "inlineStr".equals(type)) {
+            this.headerCandidates.set(colIndex, (String) cellValue);
+        }
+    }
+
+    private Object toValue(String type, String value, StringBuilder inline) {
+        if ("inlineStr".equals(type)) {
+            return inline == null ? "" : inline.toString();
+        }
+        if (value == null || "e".equals(type)) {
+            return "";
+        }
+        if ("s".equals(type)) {
+            return this.sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+        }
+        if ("b".equals(type)) {
+            return "1".equals(value);
+        }
+        if ("str".equals(type)) {
+            return value;
+        }
+        return Double.parseDouble(value);
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && this.reader.hasNext()) {
+            int event = this.reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static int columnIndex(String ref) {
+        int col = 0;
+        for (int i = 0; i < ref.length(); i++) {
+            char c = ref.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            col = col * 26 + (c - 'A' + 1);
+        }
+        return col - 1;
+    }
+}
@@ -0,0 +1,59 @@
+package org.celper.core;
+
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The type Xlsx shared strings.
+ * 시트를 기록하는 동안 문자열에 번호를 매기고, 마지막에 sharedStrings.xml 로 기록합니다.
+ * 서로 다른 문자열 수만큼 메모리를 사용합니다.
+ */
+final class XlsxSharedStrings {
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private String[] strings = new String[1024];
+    private int count;
+
+    /**
+     * Index of int.
+     *
+     * @param value the value
+     * @return the int
+     */
+    int indexOf(String value) {
+        count++;
+        Integer index = indexes.get(value);
+        if (index != null) {
+            return index;
+        }
+        int newIndex = indexes.size();
+        if (newIndex == strings.length) {
+            String[] grown = new String[strings.length * 2];
+            System.arraycopy(strings, 0, grown, 0, strings.length);
+            strings = grown;
+        }
+        strings[newIndex] = value;
+        indexes.put(value, newIndex);
+        return newIndex;
+    }
+
+    /**
+     * Write.
+     *
+     * @param writer the writer
+     */
+    void write(Writer writer) {
+        CharOutputBuffer xml = new CharOutputBuffer(writer);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"")
+                .appendLong(count)
+                .append("\" uniqueCount=\"")
+                .appendLong(indexes.size())
+                .append("\">");
+        for (int i = 0; i < indexes.size(); i++) {
+            xml.append("<si>").appendText(strings[i]).append("</si>");
+            xml.flushIfNeeded();
+        }
+        xml.append("</sst>").flush();
+    }
+}
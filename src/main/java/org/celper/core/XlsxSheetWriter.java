@@ -0,0 +1,178 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellReference;
+import org.celper.core.structure.RowBuffer;
+
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * The type Xlsx sheet writer.
+ * sheetN.xml 을 POI usermodel 없이 직접 기록합니다.
+ * 행은 재사용하는 char 버퍼에 만든 뒤 일정 크기가 넘으면 writer 로 내보내며,
+ * 숫자 / 문자열 / boolean 셀은 셀마다 객체를 만들지 않습니다.
+ */
+final class XlsxSheetWriter {
+    private final CharOutputBuffer xml;
+    private final XlsxSharedStrings sharedStrings;
+    private final char[][] columnNames;
+    private int rowCount;
+    private boolean verticallyCenter;
+
+    /**
+     * Instantiates a new Xlsx sheet writer.
+     *
+     * @param writer        the writer
+     * @param columnCount   the column count
+     * @param sharedStrings the shared strings, null 이면 inline 문자열로 기록
+     */
+    XlsxSheetWriter(Writer writer, int columnCount, XlsxSharedStrings sharedStrings) {
+        this.xml = new CharOutputBuffer(writer);
+        this.sharedStrings = sharedStrings;
+        this.columnNames = new char[columnCount][];
+        for (int colIdx = 0; colIdx < columnCount; colIdx++) {
+            this.columnNames[colIdx] = CellReference.convertNumToColString(colIdx).toCharArray();
+        }
+    }
+
+    /**
+     * Start.
+     * 시트 설정은 {@link org.celper.core.style.SheetStyleConfigurer} 가 적용된 sheet 에서 가져옵니다.
+     *
+     * @param settings the settings
+     */
+    void start(Sheet settings) {
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"")
+                .append(" xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">");
+        if (settings.getFitToPage()) {
+            xml.append("<sheetPr><pageSetUpPr fitToPage=\"1\"/></sheetPr>");
+        }
+        xml.append("<sheetFormatPr baseColWidth=\"")
+                .appendLong(settings.getDefaultColumnWidth())
+                .append("\" defaultRowHeight=\"")
+                .appendNumber(settings.getDefaultRowHeightInPoints())
+                .append(settings.getDefaultRowHeight() == 300 ? "\"/>" : "\" customHeight=\"1\"/>")
+                .append("<sheetData>");
+        this.verticallyCenter = settings.getVerticallyCenter();
+    }
+
+    /**
+     * Write header.
+     *
+     * @param titles the titles
+     * @param styles the styles
+     */
+    void writeHeader(String[] titles, int[] styles) {
+        startRow();
+        for (int colIdx = 0; colIdx < titles.length; colIdx++) {
+            startCell(colIdx, styles[colIdx]);
+            appendString(titles[colIdx]);
+        }
+        endRow();
+    }
+
+    /**
+     * Write row.
+     *
+     * @param row    the row
+     * @param styles the styles
+     */
+    void writeRow(RowBuffer row, int[] styles) {
+        startRow();
+        for (int colIdx = 0; colIdx < styles.length; colIdx++) {
+            startCell(colIdx, styles[colIdx]);
+            if (row.isBlank(colIdx)) {
+                xml.append("/>");
+            } else if (row.isNumeric(colIdx)) {
+                appendNumericValue(row.getNumber(colIdx));
+            } else if (row.isBoolean(colIdx)) {
+                xml.append(row.getNumber(colIdx) != 0 ? " t=\"b\"><v>1</v></c>" : " t=\"b\"><v>0</v></c>");
+            } else if (row.isString(colIdx)) {
+                appendString((String) row.getRef(colIdx));
+            } else {
+                appendObject(row.getRef(colIdx));
+            }
+        }
+        endRow();
+    }
+
+    /**
+     * Gets row count.
+     *
+     * @return the row count
+     */
+    int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Flush.
+     * 버퍼에 남은 행을 writer 로 넘깁니다.
+     */
+    void flush() {
+        xml.flush();
+    }
+
+    /**
+     * End.
+     */
+    void end() {
+        xml.append("</sheetData>");
+        if (verticallyCenter) {
+            xml.append("<printOptions verticalCentered=\"1\"/>");
+        }
+        xml.append("</worksheet>").flush();
+    }
+
+    private void startRow() {
+        rowCount++;
+        xml.append("<row r=\"").appendLong(rowCount).append("\">");
+    }
+
+    private void endRow() {
+        xml.append("</row>").flushIfNeeded();
+    }
+
+    private void startCell(int colIdx, int style) {
+        xml.append("<c r=\"").append(columnNames[colIdx]).appendLong(rowCount).append('"');
+        if (style != 0) {
+            xml.append(" s=\"").appendLong(style).append('"');
+        }
+    }
+
+    private void appendObject(Object value) {
+        if (value instanceof LocalDateTime) {
+            appendNumericValue(DateUtil.getExcelDate((LocalDateTime) value));
+        } else if (value instanceof Date) {
+            appendNumericValue(DateUtil.getExcelDate((Date) value));
+        } else if (value instanceof Calendar) {
+            appendNumericValue(DateUtil.getExcelDate((Calendar) value, false));
+        } else if (value instanceof RichTextString) {
+            appendString(((RichTextString) value).getString());
+        } else {
+            appendString(String.valueOf(value));
+        }
+    }
+
+    private void appendNumericValue(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            xml.append(" t=\"e\"><v>#NUM!</v></c>");
+            return;
+        }
+        xml.append("><v>").appendNumber(value).append("</v></c>");
+    }
+
+    private void appendString(String value) {
+        if (sharedStrings != null) {
+            xml.append(" t=\"s\"><v>").appendLong(sharedStrings.indexOf(value)).append("</v></c>");
+            return;
+        }
+        xml.append(" t=\"inlineStr\"><is>").appendText(value).append("</is></c>");
+    }
+}
@@ -0,0 +1,18 @@
+package org.celper.core.structure;
+
+/**
+ * The interface Cell extractor.
+ * {@link CellWriter} 와 같은 규칙으로 모델에서 값을 꺼내지만, 셀 대신 {@link RowBuffer} 에 기록합니다.
+ * POI 객체를 건드리지 않으므로 여러 스레드에서 호출할 수 있습니다.
+ */
+@FunctionalInterface
+public interface CellExtractor {
+    /**
+     * Extract.
+     *
+     * @param buffer the buffer
+     * @param column the column
+     * @param model  the model, null 이면 기본값이 있을 때만 기록
+     */
+    void extract(RowBuffer buffer, int column, Object model);
+}
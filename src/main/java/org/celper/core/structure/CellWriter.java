@@ -0,0 +1,18 @@
+package org.celper.core.structure;
+
+import org.apache.poi.ss.usermodel.Cell;
+
+/**
+ * The interface Cell writer.
+ * 컬럼의 필드 타입에 맞춰 한 번만 결정되며, 행마다 모델에서 값을 꺼내 셀에 기록합니다.
+ */
+@FunctionalInterface
+public interface CellWriter {
+    /**
+     * Write.
+     *
+     * @param cell  the cell
+     * @param model the model, null 이면 기본값이 있을 때만 기록
+     */
+    void write(Cell cell, Object model);
+}
@@ -0,0 +1,311 @@
+package org.celper.core.structure;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.RichTextString;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * The type Cell writers.
+ */
+public final class CellWriters {
+    private static final double NANOS_PER_DAY = 86_400_000_000_000.0;
+    // 한 글자 ASCII 문자열은 셀마다 만들지 않고 재사용
+    private static final String[] CHAR_STRINGS = charStrings();
+
+    private CellWriters() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Of cell writer.
+     * 필드 타입은 {@link #extractor(Structure)} 와 같은 규칙으로 컬럼마다 한 번만 판별하고,
+     * 셀마다 값을 바로 셀에 기록하는 writer 를 돌려줍니다.
+     *
+     * @param structure the structure
+     * @return the cell writer
+     */
+    public static CellWriter of(Structure structure) {
+        CellWriter nullWriter = nullWriter(structure.getDefaultValue());
+        CellWriter writer = fieldWriter(kindOf(structure.getField().getType()), structure.getAccessor(), nullWriter);
+        return (cell, model) -> {
+            if (Objects.isNull(model)) {
+                nullWriter.write(cell, null);
+                return;
+            }
+            writer.write(cell, model);
+        };
+    }
+
+    /**
+     * Extractor cell extractor.
+     * {@link #of(Structure)} 와 같은 타입 판별 결과로 {@link RowBuffer} 에 값을 꺼내는 extractor 를 만듭니다.
+     *
+     * @param structure the structure
+     * @return the cell extractor
+     */
+    public static CellExtractor extractor(Structure structure) {
+        CellExtractor nullExtractor = nullExtractor(structure.getDefaultValue());
+        CellExtractor extractor = fieldExtractor(kindOf(structure.getField().getType()), structure.getAccessor(), nullExtractor);
+        return (buffer, column, model) -> {
+            if (Objects.isNull(model)) {
+                nullExtractor.extract(buffer, column, null);
+                return;
+            }
+            extractor.extract(buffer, column, model);
+        };
+    }
+
+    /**
+     * Sets value.
+     * 타입을 미리 알 수 없는 값(Object 필드, 헤더 등)에 사용합니다.
+     *
+     * @param cell the cell
+     * @param o    the o
+     */
+    public static void setValue(Cell cell, Object o) {
+        if (o instanceof String) {
+            cell.setCellValue((String) o);
+        } else if (o instanceof Float) {
+            cell.setCellValue(toDouble((Float) o));
+        } else if (o instanceof Number) {
+            cell.setCellValue(((Number) o).doubleValue());
+        } else if (o instanceof Boolean) {
+            cell.setCellValue((Boolean) o);
+        } else if (o instanceof LocalDate) {
+            cell.setCellValue(LocalDateTime.of((LocalDate) o, LocalTime.NOON));
+        } else if (o instanceof LocalDateTime) {
+            cell.setCellValue((LocalDateTime) o);
+        } else if (o instanceof Date) {
+            cell.setCellValue((Date) o);
+        } else if (o instanceof Calendar) {
+            cell.setCellValue((Calendar) o);
+        } else if (o instanceof LocalTime) {
+            cell.setCellValue(toDouble((LocalTime) o));
+        } else if (o instanceof Instant) {
+            cell.setCellValue(Date.from((Instant) o));
+        } else if (o instanceof RichTextString) {
+            cell.setCellValue((RichTextString) o);
+        } else if (Objects.isNull(o)) {
+            cell.setBlank();
+        } else {
+            cell.setCellValue(String.valueOf(o));
+        }
+    }
+
+    private static CellWriter nullWriter(String defaultValue) {
+        if (Objects.isNull(defaultValue) || "".equals(defaultValue)) {
+            return (cell, model) -> {};
+        }
+        return (cell, model) -> cell.setCellValue(defaultValue);
+    }
+
+    private static CellWriter fieldWriter(ValueKind kind, FieldAccessor accessor, CellWriter nullWriter) {
+        switch (kind) {
+            case BOOLEAN:
+                return (cell, model) -> cell.setCellValue(accessor.getBoolean(model));
+            case CHAR:
+                return (cell, model) -> cell.setCellValue(charString(accessor.getChar(model)));
+            case FLOAT:
+                return (cell, model) -> cell.setCellValue(toDouble((float) accessor.getDouble(model)));
+            case NUMBER:
+                return (cell, model) -> cell.setCellValue(accessor.getDouble(model));
+            default:
+                ValueWriter valueWriter = valueWriter(kind);
+                return (cell, model) -> {
+                    Object value = accessor.get(model);
+                    if (Objects.isNull(value)) {
+                        nullWriter.write(cell, model);
+                        return;
+                    }
+                    valueWriter.write(cell, value);
+                };
+        }
+    }
+
+    private static ValueWriter valueWriter(ValueKind kind) {
+        switch (kind) {
+            case STRING:
+                return (cell, value) -> cell.setCellValue((String) value);
+            case BOXED_FLOAT:
+                return (cell, value) -> cell.setCellValue(toDouble((Float) value));
+            case BOXED_NUMBER:
+                return (cell, value) -> cell.setCellValue(((Number) value).doubleValue());
+            case BOXED_BOOLEAN:
+                return (cell, value) -> cell.setCellValue((Boolean) value);
+            case CHARACTER:
+                return (cell, value) -> cell.setCellValue(charString((Character) value));
+            case LOCAL_DATE:
+                return (cell, value) -> cell.setCellValue(LocalDateTime.of((LocalDate) value, LocalTime.NOON));
+            case LOCAL_DATE_TIME:
+                return (cell, value) -> cell.setCellValue((LocalDateTime) value);
+            case LOCAL_TIME:
+                return (cell, value) -> cell.setCellValue(toDouble((LocalTime) value));
+            case INSTANT:
+                return (cell, value) -> cell.setCellValue(Date.from((Instant) value));
+            case DATE:
+                return (cell, value) -> cell.setCellValue((Date) value);
+            case CALENDAR:
+                return (cell, value) -> cell.setCellValue((Calendar) value);
+            case RICH_TEXT:
+                return (cell, value) -> cell.setCellValue((RichTextString) value);
+            default:
+                return CellWriters :: setValue;
+        }
+    }
+
+    private static CellExtractor nullExtractor(String defaultValue) {
+        if (Objects.isNull(defaultValue) || "".equals(defaultValue)) {
+            return (buffer, column, model) -> buffer.setBlank(column);
+        }
+        return (buffer, column, model) -> buffer.setString(column, defaultValue);
+    }
+
+    private static CellExtractor fieldExtractor(ValueKind kind, FieldAccessor accessor, CellExtractor nullExtractor) {
+        switch (kind) {
+            case BOOLEAN:
+                return (buffer, column, model) -> buffer.setBoolean(column, accessor.getBoolean(model));
+            case CHAR:
+                return (buffer, column, model) -> buffer.setString(column, charString(accessor.getChar(model)));
+            case FLOAT:
+                return (buffer, column, model) -> buffer.setNumeric(column, toDouble((float) accessor.getDouble(model)));
+            case NUMBER:
+                return (buffer, column, model) -> buffer.setNumeric(column, accessor.getDouble(model));
+            default:
+                ValueExtractor valueExtractor = valueExtractor(kind);
+                return (buffer, column, model) -> {
+                    Object value = accessor.get(model);
+                    if (Objects.isNull(value)) {
+                        nullExtractor.extract(buffer, column, model);
+                        return;
+                    }
+                    valueExtractor.extract(buffer, column, value);
+                };
+        }
+    }
+
+    private static ValueExtractor valueExtractor(ValueKind kind) {
+        switch (kind) {
+            case STRING:
+                return (buffer, column, value) -> buffer.setString(column, (String) value);
+            case BOXED_FLOAT:
+                return (buffer, column, value) -> buffer.setNumeric(column, toDouble((Float) value));
+            case BOXED_NUMBER:
+                return (buffer, column, value) -> buffer.setNumeric(column, ((Number) value).doubleValue());
+            case BOXED_BOOLEAN:
+                return (buffer, column, value) -> buffer.setBoolean(column, (Boolean) value);
+            case CHARACTER:
+                return (buffer, column, value) -> buffer.setString(column, charString((Character) value));
+            case LOCAL_DATE:
+                return (buffer, column, value) -> buffer.setObject(column, LocalDateTime.of((LocalDate) value, LocalTime.NOON));
+            case LOCAL_TIME:
+                return (buffer, column, value) -> buffer.setNumeric(column, toDouble((LocalTime) value));
+            case INSTANT:
+                return (buffer, column, value) -> buffer.setObject(column, Date.from((Instant) value));
+            default:
+                // LocalDateTime, Date, Calendar 는 워크북의 날짜 기준(1904 여부)에 따라 기록해야 하므로 셀에 옮길 때 변환
+                return RowBuffer :: setObject;
+        }
+    }
+
+    /**
+     * 필드 타입을 값 종류로 판별합니다. 순차 기록({@link #of(Structure)})과 병렬 기록({@link #extractor(Structure)})이
+     * 이 판별 결과를 함께 사용합니다.
+     */
+    private static ValueKind kindOf(Class<?> type) {
+        if (type == boolean.class) {
+            return ValueKind.BOOLEAN;
+        }
+        if (type == char.class) {
+            return ValueKind.CHAR;
+        }
+        if (type == float.class) {
+            return ValueKind.FLOAT;
+        }
+        if (type.isPrimitive()) {
+            return ValueKind.NUMBER;
+        }
+        if (type == String.class) {
+            return ValueKind.STRING;
+        }
+        if (type == Float.class) {
+            return ValueKind.BOXED_FLOAT;
+        }
+        if (type == Double.class || type == Integer.class || type == Long.class || type == Short.class
+                || type == Byte.class || type == BigDecimal.class || type == BigInteger.class) {
+            return ValueKind.BOXED_NUMBER;
+        }
+        if (type == Boolean.class) {
+            return ValueKind.BOXED_BOOLEAN;
+        }
+        if (type == Character.class) {
+            return ValueKind.CHARACTER;
+        }
+        if (type == LocalDate.class) {
+            return ValueKind.LOCAL_DATE;
+        }
+        if (type == LocalDateTime.class) {
+            return ValueKind.LOCAL_DATE_TIME;
+        }
+        if (type == LocalTime.class) {
+            return ValueKind.LOCAL_TIME;
+        }
+        if (type == Instant.class) {
+            return ValueKind.INSTANT;
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            return ValueKind.DATE;
+        }
+        if (Calendar.class.isAssignableFrom(type)) {
+            return ValueKind.CALENDAR;
+        }
+        if (RichTextString.class.isAssignableFrom(type)) {
+            return ValueKind.RICH_TEXT;
+        }
+        return ValueKind.OBJECT;
+    }
+
+    private static String charString(char c) {
+        return c < CHAR_STRINGS.length ? CHAR_STRINGS[c] : String.valueOf(c);
+    }
+
+    private static String[] charStrings() {
+        String[] strings = new String[128];
+        for (char c = 0; c < strings.length; c++) {
+            strings[c] = String.valueOf(c);
+        }
+        return strings;
+    }
+
+    private static double toDouble(float f) {
+        return Double.parseDouble(Float.toString(f)); // 1.1f 가 1.100000023841858 로 기록되지 않도록
+    }
+
+    private static double toDouble(LocalTime time) {
+        return time.toNanoOfDay() / NANOS_PER_DAY;
+    }
+
+    private enum ValueKind {
+        BOOLEAN, CHAR, FLOAT, NUMBER,
+        STRING, BOXED_FLOAT, BOXED_NUMBER, BOXED_BOOLEAN, CHARACTER,
+        LOCAL_DATE, LOCAL_DATE_TIME, LOCAL_TIME, INSTANT, DATE, CALENDAR, RICH_TEXT, OBJECT
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(Cell cell, Object value);
+    }
+
+    @FunctionalInterface
+    private interface ValueExtractor {
+        void extract(RowBuffer buffer, int column, Object value);
+    }
+}
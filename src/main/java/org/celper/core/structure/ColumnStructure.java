@@ -3,25 +3,26 @@ package org.celper.core.structure;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.celper.core.style.CellStyleConfigurer;
-import org.celper.core.style.builder.CellStyleBuilder;
-import org.celper.core.style.builder.SheetStyleBuilder;
+import org.celper.core.style.CellStyleRegistry;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.Objects;
 
 /**
  * The type Column structure.
  */
 public class ColumnStructure implements Comparable<ColumnStructure> {
     private Workbook _wb;
+    private CellStyleRegistry cellStyleRegistry;
     private Structure structure;
     private List<String> importNameOptions;
+    private CellWriter cellWriter;
     private CellStyle defaultCellStyle;
     private CellStyle headerAreaCellStyle;
     private CellStyle dataAreaCellStyle;
+    private boolean autoWidth;
 
     /**
      * Instantiates a new Column structure.
@@ -30,9 +31,33 @@ public class ColumnStructure implements Comparable<ColumnStructure> {
      * @param structure the structure
      */
     public ColumnStructure(Workbook workbook, Structure structure) {
-        this._wb = workbook;
+        this(new CellStyleRegistry(workbook), structure);
+    }
+
+    /**
+     * Instantiates a new Column structure.
+     * 워크북 없이 읽기에만 사용하는 경우 스타일은 설정되지 않습니다.
+     *
+     * @param structure the structure
+     */
+    public ColumnStructure(Structure structure) {
+        this.structure = structure;
+        this.importNameOptions = createImportNameOptions();
+        this.cellWriter = CellWriters.of(structure);
+    }
+
+    /**
+     * Instantiates a new Column structure.
+     *
+     * @param cellStyleRegistry the cell style registry
+     * @param structure         the structure
+     */
+    public ColumnStructure(CellStyleRegistry cellStyleRegistry, Structure structure) {
+        this._wb = cellStyleRegistry.getWorkbook();
+        this.cellStyleRegistry = cellStyleRegistry;
         this.structure = structure;
         this.importNameOptions = createImportNameOptions();
+        this.cellWriter = CellWriters.of(structure);
     }
 
     /**
@@ -62,6 +87,15 @@ public class ColumnStructure implements Comparable<ColumnStructure> {
         return importNameOptions;
     }
 
+    /**
+     * Gets cell writer.
+     *
+     * @return the cell writer
+     */
+    public CellWriter getCellWriter() {
+        return cellWriter;
+    }
+
     /**
      * Gets default cell style.
      *
@@ -93,9 +127,8 @@ public class ColumnStructure implements Comparable<ColumnStructure> {
      * Sets column style.
      */
     public void setColumnStyle() {
-        this.headerAreaCellStyle = createCellStyle(structure :: getHeaderAreaConfigurer);
-        this.dataAreaCellStyle = createCellStyle(structure :: getDataAreaConfigurer);
-        setDataFormat();
+        this.headerAreaCellStyle = this.cellStyleRegistry.getCellStyle(defaultCellStyle, structure.getHeaderAreaConfigurer(), null);
+        this.dataAreaCellStyle = this.cellStyleRegistry.getCellStyle(defaultCellStyle, structure.getDataAreaConfigurer(), structure.getCellFormat());
     }
 
     /**
@@ -104,16 +137,24 @@ public class ColumnStructure implements Comparable<ColumnStructure> {
      * @param sheet the sheet
      */
     public void setSheetStyle(Sheet sheet) {
-        this.defaultCellStyle = this._wb.createCellStyle();
-        SheetStyleBuilder builder = new SheetStyleBuilder(this._wb, sheet, this.defaultCellStyle);
-        this.structure.getSheetStyleConfigurer().config(builder);
+        this.defaultCellStyle = this.cellStyleRegistry.getSheetCellStyle(sheet, this.structure.getSheetStyleConfigurer());
+        this.autoWidth = this.cellStyleRegistry.isAutoWidth(sheet);
     }
 
     /**
      * Sets non sheet style.
      */
     public void setNonSheetStyle() {
-        this.defaultCellStyle = this._wb.createCellStyle();
+        this.defaultCellStyle = this.cellStyleRegistry.getDefaultCellStyle();
+    }
+
+    /**
+     * Is auto width boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isAutoWidth() {
+        return autoWidth;
     }
 
     /**
@@ -122,7 +163,7 @@ public class ColumnStructure implements Comparable<ColumnStructure> {
      * @return the boolean
      */
     public boolean isDefaultValueExists() {
-        return !"".equals(this.structure.getDefaultValue());
+        return Objects.nonNull(this.structure.getDefaultValue()) && !"".equals(this.structure.getDefaultValue());
     }
 
     private List<String> createImportNameOptions() {
@@ -134,17 +175,6 @@ public class ColumnStructure implements Comparable<ColumnStructure> {
         return titles;
     }
 
-    private CellStyle createCellStyle(Supplier<? extends CellStyleConfigurer> supplier) {
-        CellStyle cellStyle = this._wb.createCellStyle();
-        cellStyle.cloneStyleFrom(defaultCellStyle);
-        supplier.get().config(new CellStyleBuilder(_wb, cellStyle));
-        return cellStyle;
-    }
-
-    private void setDataFormat() {
-        this.dataAreaCellStyle.setDataFormat(this._wb.createDataFormat().getFormat(this.structure.getCellFormat()));
-    }
-
     @Override
     public int compareTo(ColumnStructure o) {
         boolean b = o.structure.getExportPriority() != this.structure.getExportPriority();
@@ -0,0 +1,76 @@
+package org.celper.core.structure;
+
+import java.lang.reflect.Field;
+
+/**
+ * The interface Field accessor.
+ */
+public interface FieldAccessor {
+    /**
+     * Get object.
+     *
+     * @param model the model
+     * @return the object
+     */
+    Object get(Object model);
+
+    /**
+     * Gets double.
+     * primitive 숫자 필드는 boxing 없이 읽습니다.
+     *
+     * @param model the model
+     * @return the double
+     */
+    default double getDouble(Object model) {
+        return ((Number) get(model)).doubleValue();
+    }
+
+    /**
+     * Gets long.
+     * primitive 정수 필드(byte, short, int, long)는 boxing 없이 읽습니다.
+     *
+     * @param model the model
+     * @return the long
+     */
+    default long getLong(Object model) {
+        return ((Number) get(model)).longValue();
+    }
+
+    /**
+     * Gets char.
+     *
+     * @param model the model
+     * @return the char
+     */
+    default char getChar(Object model) {
+        return (Character) get(model);
+    }
+
+    /**
+     * Gets boolean.
+     *
+     * @param model the model
+     * @return the boolean
+     */
+    default boolean getBoolean(Object model) {
+        return (Boolean) get(model);
+    }
+
+    /**
+     * Set.
+     *
+     * @param model the model
+     * @param value the value
+     */
+    void set(Object model, Object value);
+
+    /**
+     * Of field accessor.
+     *
+     * @param field the field
+     * @return the field accessor
+     */
+    static FieldAccessor of(Field field) {
+        return new MethodHandleFieldAccessor(field);
+    }
+}
@@ -0,0 +1,129 @@
+package org.celper.core.structure;
+
+import org.celper.exception.ExcelException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * The interface Model accessors.
+ * {@code org.celper.processor.ModelAccessorProcessor} 가 모델마다 생성하는 클래스가 구현합니다.
+ * 생성된 클래스가 있으면 {@link org.celper.core.StructureRegistrator} 가 리플렉션 대신 직접 필드 접근을 사용합니다.
+ * 생성 코드가 직접 접근할 수 없는 private / final / static 필드는 {@link #getter} / {@link #setter} 로 만든 MethodHandle 을
+ * 생성된 클래스의 static final 필드에 두고 사용하므로, JIT 가 상수로 보고 인라인할 수 있습니다.
+ */
+public interface ModelAccessors {
+    /**
+     * The constant SUFFIX.
+     */
+    String SUFFIX = "_CelperAccessors";
+
+    /**
+     * Gets accessor.
+     *
+     * @param fieldName the field name
+     * @return the accessor, 생성되지 않은 필드는 null
+     */
+    FieldAccessor getAccessor(String fieldName);
+
+    /**
+     * Generated class name string.
+     * {@code com.example.Outer$Model} 은 {@code com.example.Outer_Model_CelperAccessors} 가 됩니다.
+     *
+     * @param packageName the package name
+     * @param binaryName  the binary name
+     * @return the string
+     */
+    static String generatedClassName(String packageName, String binaryName) {
+        String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String generatedName = simpleName.replace('$', '_') + SUFFIX;
+        return packageName.isEmpty() ? generatedName : packageName + "." + generatedName;
+    }
+
+    /**
+     * Getter method handle.
+     * 생성된 클래스가 초기화될 때 한 번 호출합니다. 타입은 {@code (모델)필드타입} 이며 static 필드는 모델 인자를 무시합니다.
+     *
+     * @param type      the type
+     * @param fieldName the field name
+     * @return the method handle
+     */
+    static MethodHandle getter(Class<?> type, String fieldName) {
+        Field field = findField(type, fieldName);
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, type);
+            }
+            return handle.asType(MethodType.methodType(field.getType(), type));
+        } catch (IllegalAccessException e) {
+            throw new ExcelException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Setter method handle.
+     * 타입은 {@code (모델, 필드타입)void} 입니다. setter 를 만들 수 없는 final 필드는 {@link Field#set} 을 호출하는 handle 을 돌려줍니다.
+     *
+     * @param type      the type
+     * @param fieldName the field name
+     * @return the method handle
+     */
+    static MethodHandle setter(Class<?> type, String fieldName) {
+        Field field = findField(type, fieldName);
+        MethodType setterType = MethodType.methodType(void.class, type, field.getType());
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            MethodHandle handle = lookup.unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, type);
+            }
+            return handle.asType(setterType);
+        } catch (IllegalAccessException e) {
+            try {
+                return lookup.findVirtual(Field.class, "set", MethodType.methodType(void.class, Object.class, Object.class))
+                        .bindTo(field)
+                        .asType(setterType);
+            } catch (NoSuchMethodException | IllegalAccessException ex) {
+                throw new ExcelException(ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Rethrow runtime exception.
+     * 생성된 접근자에서 MethodHandle 호출이 던진 예외를 그대로 던지거나 {@link ExcelException} 으로 감쌉니다.
+     *
+     * @param throwable the throwable
+     * @return 반환하지 않음, 생성 코드에서 {@code throw ModelAccessors.rethrow(e)} 로 사용
+     */
+    static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        throw new ExcelException(throwable.getMessage(), throwable);
+    }
+
+    /**
+     * Find field field.
+     *
+     * @param type      the type
+     * @param fieldName the field name
+     * @return the field
+     */
+    static Field findField(Class<?> type, String fieldName) {
+        try {
+            Field field = type.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return field;
+        } catch (java.lang.NoSuchFieldException e) {
+            throw new ExcelException(e.getMessage(), e);
+        }
+    }
+}
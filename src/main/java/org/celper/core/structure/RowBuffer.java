@@ -0,0 +1,194 @@
+package org.celper.core.structure;
+
+import org.apache.poi.ss.usermodel.Cell;
+
+import java.util.Arrays;
+
+/**
+ * The type Row buffer.
+ * 한 행의 값을 타입 태그와 함께 보관합니다. 숫자와 boolean 은 double 배열에, 나머지는 참조 배열에 둡니다.
+ * 같은 인스턴스를 여러 행에 재사용합니다.
+ */
+public final class RowBuffer {
+    private static final byte BLANK = 0;
+    private static final byte NUMERIC = 1;
+    private static final byte STRING = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte OBJECT = 4;
+
+    private final byte[] types;
+    private final double[] numbers;
+    private final Object[] refs;
+
+    /**
+     * Instantiates a new Row buffer.
+     *
+     * @param columnCount the column count
+     */
+    public RowBuffer(int columnCount) {
+        this.types = new byte[columnCount];
+        this.numbers = new double[columnCount];
+        this.refs = new Object[columnCount];
+    }
+
+    /**
+     * Size int.
+     *
+     * @return the int
+     */
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * Sets blank.
+     *
+     * @param column the column
+     */
+    public void setBlank(int column) {
+        types[column] = BLANK;
+        refs[column] = null;
+    }
+
+    /**
+     * Sets numeric.
+     *
+     * @param column the column
+     * @param value  the value
+     */
+    public void setNumeric(int column, double value) {
+        types[column] = NUMERIC;
+        numbers[column] = value;
+        refs[column] = null;
+    }
+
+    /**
+     * Sets boolean.
+     *
+     * @param column the column
+     * @param value  the value
+     */
+    public void setBoolean(int column, boolean value) {
+        types[column] = BOOLEAN;
+        numbers[column] = value ? 1 : 0;
+        refs[column] = null;
+    }
+
+    /**
+     * Sets string.
+     *
+     * @param column the column
+     * @param value  the value
+     */
+    public void setString(int column, String value) {
+        types[column] = STRING;
+        refs[column] = value;
+    }
+
+    /**
+     * Sets object.
+     * 날짜, RichTextString 등은 기록할 때 {@link CellWriters#setValue} 로 처리합니다.
+     *
+     * @param column the column
+     * @param value  the value
+     */
+    public void setObject(int column, Object value) {
+        types[column] = OBJECT;
+        refs[column] = value;
+    }
+
+    /**
+     * Is blank boolean.
+     *
+     * @param column the column
+     * @return the boolean
+     */
+    public boolean isBlank(int column) {
+        return types[column] == BLANK;
+    }
+
+    /**
+     * Is numeric boolean.
+     *
+     * @param column the column
+     * @return the boolean
+     */
+    public boolean isNumeric(int column) {
+        return types[column] == NUMERIC;
+    }
+
+    /**
+     * Is boolean boolean.
+     *
+     * @param column the column
+     * @return the boolean
+     */
+    public boolean isBoolean(int column) {
+        return types[column] == BOOLEAN;
+    }
+
+    /**
+     * Is string boolean.
+     *
+     * @param column the column
+     * @return the boolean
+     */
+    public boolean isString(int column) {
+        return types[column] == STRING;
+    }
+
+    /**
+     * Gets number.
+     * boolean 은 1 / 0 으로 보관됩니다.
+     *
+     * @param column the column
+     * @return the number
+     */
+    public double getNumber(int column) {
+        return numbers[column];
+    }
+
+    /**
+     * Gets ref.
+     * 문자열 또는 {@link #setObject} 로 넣은 값입니다.
+     *
+     * @param column the column
+     * @return the ref
+     */
+    public Object getRef(int column) {
+        return refs[column];
+    }
+
+    /**
+     * Write to.
+     *
+     * @param column the column
+     * @param cell   the cell
+     */
+    public void writeTo(int column, Cell cell) {
+        switch (types[column]) {
+            case NUMERIC:
+                cell.setCellValue(numbers[column]);
+                break;
+            case BOOLEAN:
+                cell.setCellValue(numbers[column] != 0);
+                break;
+            case STRING:
+                cell.setCellValue((String) refs[column]);
+                break;
+            case OBJECT:
+                CellWriters.setValue(cell, refs[column]);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Clear.
+     */
+    public void clear() {
+        Arrays.fill(types, BLANK);
+        Arrays.fill(refs, null);
+    }
+}
@@ -1,6 +1,7 @@
 package org.celper.core.structure;
 
 import org.celper.annotation.*;
+import org.celper.common.ModelMapperConverters;
 import org.celper.core.style.CellStyleConfigurer;
 import org.celper.core.style.SheetStyleConfigurer;
 import org.celper.core.style._NoCellStyle;
@@ -8,12 +9,15 @@ import org.celper.type.BuiltinCellFormatType;
 import org.celper.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
+import java.util.function.Function;
 
 /**
  * The type Structure.
  */
 public class Structure {
     private final Field field;
+    private final FieldAccessor accessor;
+    private final Function<Object, Object> importConverter;
     private String fieldName;
     private Column column;
     private String defaultValue;
@@ -31,7 +35,21 @@ public class Structure {
      * @param definedOrder the defined order
      */
     public  <T> Structure(final Class<T> clazz, final Field field, final int definedOrder) {
+        this(clazz, field, definedOrder, null);
+    }
+
+    /**
+     * Instantiates a new Structure.
+     *
+     * @param clazz          the clazz
+     * @param field          the field
+     * @param definedOrder   the defined order
+     * @param modelAccessors the generated model accessors, nullable
+     */
+    public  <T> Structure(final Class<T> clazz, final Field field, final int definedOrder, final ModelAccessors modelAccessors) {
         this.field = field; // non null
+        this.accessor = createAccessor(field, modelAccessors);
+        this.importConverter = ModelMapperConverters.of(field.getType());
         this.fieldName = field.getName();
         this.column = field.getDeclaredAnnotation(Column.class);
         setDefaultValue();
@@ -50,6 +68,24 @@ public class Structure {
         return field;
     }
 
+    /**
+     * Gets accessor.
+     *
+     * @return the accessor
+     */
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * Gets import converter.
+     *
+     * @return the import converter
+     */
+    public Function<Object, Object> getImportConverter() {
+        return importConverter;
+    }
+
     /**
      * Gets field name.
      *
@@ -123,6 +159,10 @@ public class Structure {
     }
 
 
+    private static FieldAccessor createAccessor(Field field, ModelAccessors modelAccessors) {
+        FieldAccessor generated = modelAccessors == null ? null : modelAccessors.getAccessor(field.getName());
+        return generated != null ? generated : FieldAccessor.of(field);
+    }
     private void setDefaultValue(){
         if (this.field.isAnnotationPresent(DefaultValue.class)){
             this.defaultValue = this.field.getDeclaredAnnotation(DefaultValue.class).value();
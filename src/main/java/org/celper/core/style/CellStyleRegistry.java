@@ -0,0 +1,168 @@
+package org.celper.core.style;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.celper.core.style.builder.CellStyleBuilder;
+import org.celper.core.style.builder.SheetStyleBuilder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The type Cell style registry.
+ * 워크북 단위로 CellStyle 과 DataFormat 을 공유합니다.
+ * 같은 configurer 와 format 조합이면 시트나 컬럼이 달라도 하나의 CellStyle 을 재사용합니다.
+ */
+public class CellStyleRegistry {
+    private final Workbook _wb;
+    private final Map<StyleKey, CellStyle> cellStyles;
+    private final Set<StyleKey> configuredSheets;
+    private final Set<Sheet> autoWidthSheets;
+    private final Map<String, Short> dataFormats;
+    private DataFormat dataFormat;
+
+    /**
+     * Instantiates a new Cell style registry.
+     *
+     * @param workbook the workbook
+     */
+    public CellStyleRegistry(Workbook workbook) {
+        this._wb = workbook;
+        this.cellStyles = new HashMap<>();
+        this.configuredSheets = new HashSet<>();
+        this.autoWidthSheets = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.dataFormats = new HashMap<>();
+    }
+
+    /**
+     * Gets workbook.
+     *
+     * @return the workbook
+     */
+    public Workbook getWorkbook() {
+        return _wb;
+    }
+
+    /**
+     * Gets default cell style.
+     *
+     * @return the default cell style
+     */
+    public CellStyle getDefaultCellStyle() {
+        return this.cellStyles.computeIfAbsent(new StyleKey(null, null, null), key -> this._wb.createCellStyle());
+    }
+
+    /**
+     * Gets sheet cell style.
+     * 시트 설정(fit to page, 기본 너비 등)은 시트마다 한 번씩 적용됩니다.
+     *
+     * @param sheet      the sheet
+     * @param configurer the configurer
+     * @return the sheet cell style
+     */
+    public CellStyle getSheetCellStyle(Sheet sheet, SheetStyleConfigurer configurer) {
+        StyleKey styleKey = new StyleKey(SheetStyleConfigurer.class, configurer.getClass(), null);
+        CellStyle cellStyle = this.cellStyles.computeIfAbsent(styleKey, key -> this._wb.createCellStyle());
+        if (this.configuredSheets.add(new StyleKey(sheet, configurer.getClass(), null))) {
+            SheetStyleBuilder sheetStyleBuilder = new SheetStyleBuilder(this._wb, sheet, cellStyle);
+            configurer.config(sheetStyleBuilder);
+            if (sheetStyleBuilder.isAutoWidth()) {
+                this.autoWidthSheets.add(sheet);
+            }
+        }
+        return cellStyle;
+    }
+
+    /**
+     * Is auto width boolean.
+     *
+     * @param sheet the sheet
+     * @return 시트 설정에서 isAutoWidth(true) 를 사용했으면 true
+     */
+    public boolean isAutoWidth(Sheet sheet) {
+        return this.autoWidthSheets.contains(sheet);
+    }
+
+    /**
+     * Gets cell style.
+     *
+     * @param baseCellStyle the base cell style
+     * @param configurer    the configurer
+     * @param format        the format, null 이면 base 의 format 을 유지
+     * @return the cell style
+     */
+    public CellStyle getCellStyle(CellStyle baseCellStyle, CellStyleConfigurer configurer, String format) {
+        StyleKey styleKey = new StyleKey(baseCellStyle.getIndex(), configurer.getClass(), format);
+        return this.cellStyles.computeIfAbsent(styleKey, key -> createCellStyle(baseCellStyle, configurer, format));
+    }
+
+    /**
+     * Gets data format.
+     *
+     * @param format the format
+     * @return the data format
+     */
+    public short getDataFormat(String format) {
+        if (Objects.isNull(this.dataFormat)) {
+            this.dataFormat = this._wb.createDataFormat();
+        }
+        return this.dataFormats.computeIfAbsent(format, this.dataFormat :: getFormat);
+    }
+
+    /**
+     * Size int.
+     *
+     * @return the int
+     */
+    public int size() {
+        return this.cellStyles.size();
+    }
+
+    private CellStyle createCellStyle(CellStyle baseCellStyle, CellStyleConfigurer configurer, String format) {
+        CellStyle cellStyle = this._wb.createCellStyle();
+        cellStyle.cloneStyleFrom(baseCellStyle);
+        configurer.config(new CellStyleBuilder(this._wb, cellStyle));
+        if (Objects.nonNull(format)) {
+            cellStyle.setDataFormat(getDataFormat(format));
+        }
+        return cellStyle;
+    }
+
+    private static final class StyleKey {
+        private final Object base;
+        private final Class<?> configurer;
+        private final String format;
+
+        private StyleKey(Object base, Class<?> configurer, String format) {
+            this.base = base;
+            this.configurer = configurer;
+            this.format = format;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StyleKey)) {
+                return false;
+            }
+            StyleKey styleKey = (StyleKey) o;
+            return Objects.equals(base, styleKey.base)
+                    && Objects.equals(configurer, styleKey.configurer)
+                    && Objects.equals(format, styleKey.format);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(base, configurer, format);
+        }
+    }
+}
@@ -11,6 +11,7 @@ public class SheetStyleBuilder {
     private final Workbook _wb;
     private final Sheet sheet;
     private final CellStyle cellStyle;
+    private boolean autoWidth;
 
     /**
      * Instantiates a new Sheet style builder.
@@ -69,6 +70,28 @@ public class SheetStyleBuilder {
         return this;
     }
 
+    /**
+     * Is auto width sheet style builder.
+     * 기록하는 동안 컬럼별 최대 글자 폭을 계산해서 끝날 때 컬럼 너비를 맞춥니다. ({@link Sheet#autoSizeColumn(int)} 을 사용하지 않음)
+     * 한글/한자 등 전각 문자는 두 칸으로 계산합니다. ExcelStreamWriter 에는 적용되지 않습니다.
+     *
+     * @param b the b
+     * @return the sheet style builder
+     */
+    public SheetStyleBuilder isAutoWidth(boolean b) {
+        this.autoWidth = b;
+        return this;
+    }
+
+    /**
+     * Is auto width boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isAutoWidth() {
+        return this.autoWidth;
+    }
+
     /**
      * Cell style builder cell style builder.
      *
@@ -0,0 +1,39 @@
+package org.celper.metrics;
+
+/**
+ * The interface Excel metrics.
+ * {@link org.celper.core.ExcelSheet} 와 {@link org.celper.core.ExcelWorkBook} 이 단계가 끝날 때마다 호출합니다.
+ * 기록하는 스레드에서 바로 호출되므로 구현은 가볍게 유지해야 합니다.
+ * 기본값은 아무것도 하지 않는 {@link #noop()} 입니다.
+ */
+public interface ExcelMetrics {
+
+    /**
+     * Noop excel metrics.
+     *
+     * @return 아무것도 기록하지 않는 metrics
+     */
+    static ExcelMetrics noop() {
+        return NoopExcelMetrics.INSTANCE;
+    }
+
+    /**
+     * Record.
+     *
+     * @param phase        the phase
+     * @param modelClass   the model class, 모델과 관계없는 단계({@link Phase#WORKBOOK_WRITE})는 null
+     * @param elapsedNanos the elapsed nanos
+     * @param rows         이 구간에서 처리한 행 수
+     * @param cells        이 구간에서 처리한 셀 수
+     */
+    void record(Phase phase, Class<?> modelClass, long elapsedNanos, long rows, long cells);
+
+    /**
+     * Bytes written.
+     * {@link Phase#WORKBOOK_WRITE} 가 끝난 뒤 출력 스트림에 기록한 바이트 수를 보고합니다.
+     *
+     * @param bytes the bytes
+     */
+    default void bytesWritten(long bytes) {
+    }
+}
@@ -0,0 +1,119 @@
+package org.celper.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Micrometer excel metrics.
+ * 단계별 시간을 {@value #PHASE_TIMER} 타이머로, 처리한 행과 셀 수를 {@value #ROWS_COUNTER} / {@value #CELLS_COUNTER} 카운터로,
+ * 내보낸 파일 크기를 {@value #BYTES_SUMMARY} 로 기록합니다. 타이머와 카운터는 phase 와 model(클래스 이름, 모델이 없는 단계는 none) 태그를 가지며,
+ * 파일 크기는 워크북 단위이므로 태그가 없습니다. meter 는 모델 클래스와 단계마다 한 번만 만들어서 재사용합니다.
+ * micrometer-core 는 optional 의존성이므로 사용하는 쪽에서 추가해야 합니다.
+ */
+public class MicrometerExcelMetrics implements ExcelMetrics {
+    /**
+     * The constant PHASE_TIMER.
+     */
+    public static final String PHASE_TIMER = "celper.phase";
+    /**
+     * The constant ROWS_COUNTER.
+     */
+    public static final String ROWS_COUNTER = "celper.rows";
+    /**
+     * The constant CELLS_COUNTER.
+     */
+    public static final String CELLS_COUNTER = "celper.cells";
+    /**
+     * The constant BYTES_SUMMARY.
+     */
+    public static final String BYTES_SUMMARY = "celper.workbook.bytes";
+
+    private static final String PHASE_TAG = "phase";
+    private static final String MODEL_TAG = "model";
+    private static final String NONE = "none";
+    private static final String[] PHASE_NAMES = phaseNames();
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary bytesSummary;
+    // 모델 클래스마다 Phase 순서대로 만든 meter, 모델이 없는 단계는 void.class 로 보관
+    private final ConcurrentMap<Class<?>, PhaseMeters[]> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Micrometer excel metrics.
+     *
+     * @param meterRegistry the meter registry
+     */
+    public MicrometerExcelMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+        this.bytesSummary = DistributionSummary.builder(BYTES_SUMMARY)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(Phase phase, Class<?> modelClass, long elapsedNanos, long rows, long cells) {
+        PhaseMeters phaseMeters = phaseMeters(phase, modelClass);
+        phaseMeters.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (rows > 0) {
+            phaseMeters.rows.increment(rows);
+        }
+        if (cells > 0) {
+            phaseMeters.cells.increment(cells);
+        }
+    }
+
+    @Override
+    public void bytesWritten(long bytes) {
+        this.bytesSummary.record(bytes);
+    }
+
+    private PhaseMeters phaseMeters(Phase phase, Class<?> modelClass) {
+        Class<?> key = Objects.isNull(modelClass) ? void.class : modelClass;
+        PhaseMeters[] byPhase = this.meters.computeIfAbsent(key, k -> new PhaseMeters[PHASE_NAMES.length]);
+        PhaseMeters phaseMeters = byPhase[phase.ordinal()];
+        if (phaseMeters == null) {
+            // 동시에 만들어도 registry 가 같은 meter 를 돌려주므로 결과는 같음
+            phaseMeters = new PhaseMeters(PHASE_NAMES[phase.ordinal()], Objects.isNull(modelClass) ? NONE : modelClass.getName());
+            byPhase[phase.ordinal()] = phaseMeters;
+        }
+        return phaseMeters;
+    }
+
+    private static String[] phaseNames() {
+        Phase[] phases = Phase.values();
+        String[] names = new String[phases.length];
+        for (Phase phase : phases) {
+            names[phase.ordinal()] = phase.name().toLowerCase(Locale.ROOT);
+        }
+        return names;
+    }
+
+    private final class PhaseMeters {
+        private final Timer timer;
+        private final Counter rows;
+        private final Counter cells;
+
+        private PhaseMeters(String phaseName, String modelName) {
+            this.timer = Timer.builder(PHASE_TIMER)
+                    .tag(PHASE_TAG, phaseName)
+                    .tag(MODEL_TAG, modelName)
+                    .register(meterRegistry);
+            this.rows = Counter.builder(ROWS_COUNTER)
+                    .tag(PHASE_TAG, phaseName)
+                    .tag(MODEL_TAG, modelName)
+                    .register(meterRegistry);
+            this.cells = Counter.builder(CELLS_COUNTER)
+                    .tag(PHASE_TAG, phaseName)
+                    .tag(MODEL_TAG, modelName)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.celper.metrics;
+
+/**
+ * The type Noop excel metrics.
+ */
+final class NoopExcelMetrics implements ExcelMetrics {
+    /**
+     * The constant INSTANCE.
+     */
+    static final NoopExcelMetrics INSTANCE = new NoopExcelMetrics();
+
+    private NoopExcelMetrics() {
+    }
+
+    @Override
+    public void record(Phase phase, Class<?> modelClass, long elapsedNanos, long rows, long cells) {
+    }
+}
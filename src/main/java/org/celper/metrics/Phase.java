@@ -0,0 +1,36 @@
+package org.celper.metrics;
+
+/**
+ * The enum Phase.
+ * {@link ExcelMetrics} 에 보고하는 작업 단계입니다.
+ */
+public enum Phase {
+    /**
+     * 모델 클래스의 {@code @Column} 구조를 찾는 단계. 처음 한 번 이후에는 캐시에서 가져옵니다.
+     */
+    STRUCTURE_RESOLUTION,
+    /**
+     * 컬럼마다 시트 설정과 헤더/데이터 스타일을 만드는 단계.
+     */
+    STYLE_CREATION,
+    /**
+     * 헤더 행을 기록하는 단계.
+     */
+    HEADER_WRITE,
+    /**
+     * 읽을 시트에서 헤더 행을 찾는 단계.
+     */
+    HEADER_DETECTION,
+    /**
+     * 데이터 행을 기록하는 단계. 일정 행 수마다 나눠서 보고합니다.
+     */
+    ROW_WRITE,
+    /**
+     * 읽은 행을 모델로 변환하는 단계.
+     */
+    MAPPING,
+    /**
+     * {@code Workbook.write} 로 파일을 내보내는 단계.
+     */
+    WORKBOOK_WRITE
+}
@@ -0,0 +1,240 @@
+package org.celper.processor;
+
+import org.celper.annotation.Column;
+import org.celper.core.structure.ModelAccessors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The type Model accessor processor.
+ * {@code @Column} 필드를 가진 모델마다 필드 접근자({@link ModelAccessors} 구현 클래스)만 생성합니다.
+ * private 이 아니고 final / static 도 아닌 필드는 생성 코드가 필드를 직접 읽고 쓰며, 나머지 필드는 생성된 클래스가 초기화될 때 만든
+ * MethodHandle 을 static final 필드에 두고 {@code invokeExact} 로 접근합니다.
+ * <p>
+ * 생성하지 않는 것: RowWriter / RowReader, 미리 정렬한 컬럼 순서, 기본값 / 셀 형식 / 스타일 정보.
+ * {@code @Column}, {@code @DefaultValue}, {@code @CellFormat}, {@code @ColumnStyle}, {@code @SheetStyle} 은 지금처럼
+ * 클래스를 처음 사용할 때 {@link org.celper.core.structure.Structure} 가 리플렉션으로 한 번 읽어서 캐시하므로, 첫 요청의 지연은 그대로입니다.
+ * 첫 요청 전에 {@link org.celper.core.StructureRegistrator#add(Class)} 로 미리 등록해 둘 수 있습니다.
+ * <p>
+ * 프로세서는 런타임 jar 에 함께 들어 있지만 {@code META-INF/services} 로 등록하지 않으므로, 모든 컴파일에서 자동으로 실행되지 않습니다.
+ * 사용하려면 {@code -processor org.celper.processor.ModelAccessorProcessor} 또는 빌드 도구의 annotationProcessors 에 지정해야 합니다.
+ */
+@SupportedAnnotationTypes("org.celper.annotation.Column")
+public class ModelAccessorProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(java.util.Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<VariableElement>> models = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(Column.class)) {
+            if (element.getKind() != ElementKind.FIELD || !(element.getEnclosingElement() instanceof TypeElement)) {
+                continue;
+            }
+            models.computeIfAbsent((TypeElement) element.getEnclosingElement(), key -> new ArrayList<>())
+                    .add((VariableElement) element);
+        }
+        models.forEach(this :: generate);
+        return false;
+    }
+
+    private void generate(TypeElement model, List<VariableElement> fields) {
+        if (!isAccessible(model)) {
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(model).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(model).toString();
+        String generatedName = ModelAccessors.generatedClassName(packageName, binaryName);
+        String simpleName = generatedName.substring(generatedName.lastIndexOf('.') + 1);
+        String modelType = processingEnv.getTypeUtils().erasure(model.asType()).toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName).append(" implements org.celper.core.structure.ModelAccessors {\n");
+        List<String> generatedFields = new ArrayList<>();
+        for (VariableElement field : fields) {
+            if (isDirectlyAccessible(field)) {
+                appendAccessor(source, modelType, field);
+            } else {
+                appendHandleAccessor(source, modelType, field);
+            }
+            generatedFields.add(field.getSimpleName().toString());
+        }
+        source.append("\n    @Override\n")
+                .append("    public org.celper.core.structure.FieldAccessor getAccessor(String fieldName) {\n")
+                .append("        switch (fieldName) {\n");
+        for (String fieldName : generatedFields) {
+            source.append("            case \"").append(fieldName).append("\":\n")
+                    .append("                return ").append(constantName(fieldName)).append(";\n");
+        }
+        source.append("            default:\n")
+                .append("                return null;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(generatedName, model).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), model);
+        }
+    }
+
+    private void appendAccessor(StringBuilder source, String modelType, VariableElement field) {
+        String fieldName = field.getSimpleName().toString();
+        TypeMirror type = field.asType();
+        String target = "((" + modelType + ") model)." + fieldName;
+        source.append("\n    private static final org.celper.core.structure.FieldAccessor ").append(constantName(fieldName))
+                .append(" = new org.celper.core.structure.FieldAccessor() {\n")
+                .append("        @Override\n")
+                .append("        public Object get(Object model) {\n")
+                .append("            return ").append(target).append(";\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public void set(Object model, Object value) {\n")
+                .append("            ").append(target).append(" = (").append(castType(type)).append(") value;\n")
+                .append("        }\n");
+        if (type.getKind().isPrimitive() && type.getKind() != TypeKind.BOOLEAN && type.getKind() != TypeKind.CHAR) {
+            source.append("\n        @Override\n")
+                    .append("        public double getDouble(Object model) {\n")
+                    .append("            return ").append(target).append(";\n")
+                    .append("        }\n");
+        }
+        if (isIntegral(type)) {
+            source.append("\n        @Override\n")
+                    .append("        public long getLong(Object model) {\n")
+                    .append("            return ").append(target).append(";\n")
+                    .append("        }\n");
+        }
+        if (type.getKind() == TypeKind.CHAR) {
+            source.append("\n        @Override\n")
+                    .append("        public char getChar(Object model) {\n")
+                    .append("            return ").append(target).append(";\n")
+                    .append("        }\n");
+        }
+        if (type.getKind() == TypeKind.BOOLEAN) {
+            source.append("\n        @Override\n")
+                    .append("        public boolean getBoolean(Object model) {\n")
+                    .append("            return ").append(target).append(";\n")
+                    .append("        }\n");
+        }
+        source.append("    };\n");
+    }
+
+    // 직접 접근할 수 없는 필드는 static final MethodHandle 을 invokeExact 로 호출
+    private void appendHandleAccessor(StringBuilder source, String modelType, VariableElement field) {
+        String fieldName = field.getSimpleName().toString();
+        TypeMirror type = field.asType();
+        String fieldType = processingEnv.getTypeUtils().erasure(type).toString();
+        String getter = constantName(fieldName) + "_GETTER";
+        String setter = constantName(fieldName) + "_SETTER";
+        String model = "(" + modelType + ") model";
+        String get = "(" + fieldType + ") " + getter + ".invokeExact(" + model + ")";
+        String value = type.getKind().isPrimitive() ? "(" + fieldType + ") (" + castType(type) + ") value" : "(" + fieldType + ") value";
+        source.append("\n    private static final java.lang.invoke.MethodHandle ").append(getter)
+                .append(" = org.celper.core.structure.ModelAccessors.getter(").append(modelType).append(".class, \"").append(fieldName).append("\");\n")
+                .append("    private static final java.lang.invoke.MethodHandle ").append(setter)
+                .append(" = org.celper.core.structure.ModelAccessors.setter(").append(modelType).append(".class, \"").append(fieldName).append("\");\n")
+                .append("    private static final org.celper.core.structure.FieldAccessor ").append(constantName(fieldName))
+                .append(" = new org.celper.core.structure.FieldAccessor() {\n");
+        appendHandleMethod(source, "Object get(Object model)", "return " + get + ";");
+        source.append("\n");
+        appendHandleMethod(source, "void set(Object model, Object value)", setter + ".invokeExact(" + model + ", " + value + ");");
+        if (type.getKind().isPrimitive() && type.getKind() != TypeKind.BOOLEAN && type.getKind() != TypeKind.CHAR) {
+            source.append("\n");
+            appendHandleMethod(source, "double getDouble(Object model)", "return " + get + ";");
+        }
+        if (isIntegral(type)) {
+            source.append("\n");
+            appendHandleMethod(source, "long getLong(Object model)", "return " + get + ";");
+        }
+        if (type.getKind() == TypeKind.CHAR) {
+            source.append("\n");
+            appendHandleMethod(source, "char getChar(Object model)", "return " + get + ";");
+        }
+        if (type.getKind() == TypeKind.BOOLEAN) {
+            source.append("\n");
+            appendHandleMethod(source, "boolean getBoolean(Object model)", "return " + get + ";");
+        }
+        source.append("    };\n");
+    }
+
+    private static void appendHandleMethod(StringBuilder source, String signature, String statement) {
+        source.append("        @Override\n")
+                .append("        public ").append(signature).append(" {\n")
+                .append("            try {\n")
+                .append("                ").append(statement).append("\n")
+                .append("            } catch (Throwable e) {\n")
+                .append("                throw org.celper.core.structure.ModelAccessors.rethrow(e);\n")
+                .append("            }\n")
+                .append("        }\n");
+    }
+
+    private static boolean isIntegral(TypeMirror type) {
+        TypeKind kind = type.getKind();
+        return kind == TypeKind.LONG || kind == TypeKind.INT || kind == TypeKind.SHORT || kind == TypeKind.BYTE;
+    }
+
+    private static boolean isDirectlyAccessible(VariableElement field) {
+        return !field.getModifiers().contains(Modifier.PRIVATE)
+                && !field.getModifiers().contains(Modifier.FINAL)
+                && !field.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private String castType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(type.getKind()))
+                    .getQualifiedName().toString();
+        }
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private static boolean isAccessible(TypeElement model) {
+        Element element = model;
+        while (element instanceof TypeElement) {
+            TypeElement typeElement = (TypeElement) element;
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)
+                    || typeElement.getNestingKind() == NestingKind.LOCAL
+                    || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static String constantName(String fieldName) {
+        StringBuilder name = new StringBuilder();
+        for (char c : fieldName.toCharArray()) {
+            if (Character.isUpperCase(c) && name.length() > 0) {
+                name.append('_');
+            }
+            name.append(Character.toUpperCase(c));
+        }
+        return name.append("_ACCESSOR").toString();
+    }
+}
@@ -0,0 +1,228 @@
+package org.celper.reactive;
+
+import org.celper.core.ExcelSheet;
+import org.celper.core.ExcelStreamReader;
+import org.celper.core.ImportOptions;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The type Sheet publisher.
+ * 구독할 때마다 stream 을 새로 열고, subscriber 가 요청한 만큼만 행을 읽어 모델로 변환합니다.
+ * executor 가 없으면 request 를 호출한 스레드에서 읽습니다.
+ *
+ * @param <T> the type parameter
+ */
+public final class SheetPublisher<T> implements Publisher<T> {
+    private final Supplier<Stream<T>> streamSupplier;
+    private final Executor executor;
+
+    /**
+     * Instantiates a new Sheet publisher.
+     *
+     * @param streamSupplier the stream supplier
+     */
+    public SheetPublisher(Supplier<Stream<T>> streamSupplier) {
+        this(streamSupplier, null);
+    }
+
+    /**
+     * Instantiates a new Sheet publisher.
+     *
+     * @param streamSupplier the stream supplier
+     * @param executor       the executor
+     */
+    public SheetPublisher(Supplier<Stream<T>> streamSupplier, Executor executor) {
+        this.streamSupplier = Objects.requireNonNull(streamSupplier);
+        this.executor = executor;
+    }
+
+    /**
+     * Of sheet publisher.
+     *
+     * @param <T>        the type parameter
+     * @param excelSheet the excel sheet
+     * @param clazz      the clazz
+     * @return the sheet publisher
+     */
+    public static <T> SheetPublisher<T> of(ExcelSheet excelSheet, Class<T> clazz) {
+        return of(excelSheet, clazz, new ImportOptions());
+    }
+
+    /**
+     * Of sheet publisher.
+     *
+     * @param <T>           the type parameter
+     * @param excelSheet    the excel sheet
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @return the sheet publisher
+     */
+    public static <T> SheetPublisher<T> of(ExcelSheet excelSheet, Class<T> clazz, ImportOptions importOptions) {
+        return new SheetPublisher<>(() -> excelSheet.sheetToModelStream(clazz, importOptions));
+    }
+
+    /**
+     * Of sheet publisher.
+     * 같은 reader 를 여러 번 구독하면 구독마다 시트를 처음부터 다시 읽습니다.
+     *
+     * @param <T>           the type parameter
+     * @param reader        the reader
+     * @param sheetName     the sheet name
+     * @param clazz         the clazz
+     * @param importOptions the import options
+     * @return the sheet publisher
+     */
+    public static <T> SheetPublisher<T> of(ExcelStreamReader reader, String sheetName, Class<T> clazz, ImportOptions importOptions) {
+        return new SheetPublisher<>(() -> reader.sheetToModel(sheetName, clazz, importOptions));
+    }
+
+    /**
+     * Of sheet publisher.
+     *
+     * @param <T>    the type parameter
+     * @param reader the reader
+     * @param clazz  the clazz
+     * @return the sheet publisher
+     */
+    public static <T> SheetPublisher<T> of(ExcelStreamReader reader, Class<T> clazz) {
+        return new SheetPublisher<>(() -> reader.sheetToModel(clazz));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        Stream<T> stream;
+        try {
+            stream = streamSupplier.get();
+        } catch (Throwable e) {
+            subscriber.onSubscribe(EmptySubscription.INSTANCE);
+            subscriber.onError(e);
+            return;
+        }
+        subscriber.onSubscribe(new StreamSubscription<>(subscriber, stream, executor));
+    }
+
+    private static final class StreamSubscription<T> implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final Stream<T> stream;
+        private final Iterator<T> iterator;
+        private final Executor executor;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private boolean done;
+
+        private StreamSubscription(Subscriber<? super T> subscriber, Stream<T> stream, Executor executor) {
+            this.subscriber = subscriber;
+            this.stream = stream;
+            this.iterator = stream.iterator();
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("request must be positive: " + n);
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        // onNext 안에서 request 를 다시 호출해도 재귀 없이 같은 루프에서 이어서 처리합니다.
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            if (executor == null) {
+                drainLoop();
+            } else {
+                executor.execute(this :: drainLoop);
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            while (true) {
+                if (!done) {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void emit() {
+            try {
+                long requested = demand.get();
+                long emitted = 0;
+                while (true) {
+                    if (cancelled) {
+                        finish();
+                        return;
+                    }
+                    Throwable error = invalidRequest;
+                    if (error != null) {
+                        finish();
+                        subscriber.onError(error);
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (emitted == requested) {
+                        break;
+                    }
+                    subscriber.onNext(iterator.next());
+                    emitted++;
+                }
+                if (requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+            } catch (Throwable e) {
+                if (!done) { // onComplete, onError 이후에는 다시 신호를 보내지 않음
+                    finish();
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        private void finish() {
+            done = true;
+            stream.close();
+        }
+    }
+
+    private enum EmptySubscription implements Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.celper.reactive;
+
+import org.celper.core.ExcelSheet;
+import org.celper.core.ExportOptions;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The type Sheet subscriber.
+ * 받은 모델을 한 행씩 시트에 기록합니다. batchSize 만큼만 요청하고, 절반을 기록하면 다시 요청하므로
+ * publisher 는 POI 가 기록하는 속도 이상으로 앞서 나가지 않습니다.
+ *
+ * @param <T> the type parameter
+ */
+public final class SheetSubscriber<T> implements Subscriber<T> {
+    /**
+     * The constant DEFAULT_BATCH_SIZE.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Consumer<? super T> modelWriter;
+    private final int batchSize;
+    private final int limit;
+    private final CompletableFuture<Long> completion = new CompletableFuture<>();
+    private Subscription subscription;
+    private long outstanding;
+    private long written;
+    private boolean done;
+
+    /**
+     * Instantiates a new Sheet subscriber.
+     *
+     * @param modelWriter the model writer
+     */
+    public SheetSubscriber(Consumer<? super T> modelWriter) {
+        this(modelWriter, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Instantiates a new Sheet subscriber.
+     *
+     * @param modelWriter the model writer
+     * @param batchSize   the batch size
+     */
+    public SheetSubscriber(Consumer<? super T> modelWriter, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.modelWriter = Objects.requireNonNull(modelWriter);
+        this.batchSize = batchSize;
+        this.limit = Math.max(1, batchSize / 2);
+    }
+
+    /**
+     * Of sheet subscriber.
+     *
+     * @param <T>        the type parameter
+     * @param excelSheet the excel sheet
+     * @param clazz      the clazz
+     * @return the sheet subscriber
+     */
+    public static <T> SheetSubscriber<T> of(ExcelSheet excelSheet, Class<T> clazz) {
+        return new SheetSubscriber<>(excelSheet.modelWriter(clazz));
+    }
+
+    /**
+     * Of sheet subscriber.
+     *
+     * @param <T>            the type parameter
+     * @param excelSheet     the excel sheet
+     * @param excludedHeader the excluded header
+     * @param clazz          the clazz
+     * @param exportOptions  the export options
+     * @param batchSize      the batch size
+     * @return the sheet subscriber
+     */
+    public static <T> SheetSubscriber<T> of(ExcelSheet excelSheet, Predicate<String> excludedHeader, Class<T> clazz,
+                                            ExportOptions exportOptions, int batchSize) {
+        return new SheetSubscriber<>(excelSheet.modelWriter(excludedHeader, clazz, exportOptions), batchSize);
+    }
+
+    /**
+     * Gets completion.
+     * 기록한 행 수로 완료되고, publisher 나 기록 중의 예외로 실패합니다.
+     *
+     * @return the completion
+     */
+    public CompletableFuture<Long> getCompletion() {
+        return completion;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (this.subscription != null) { // 하나의 시트에는 하나의 publisher 만
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        this.outstanding = batchSize;
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public void onNext(T model) {
+        Objects.requireNonNull(model);
+        if (done) {
+            return;
+        }
+        try {
+            modelWriter.accept(model);
+        } catch (Throwable e) {
+            done = true;
+            subscription.cancel();
+            completion.completeExceptionally(e);
+            return;
+        }
+        written++;
+        if (--outstanding <= limit) {
+            long n = batchSize - outstanding;
+            outstanding = batchSize;
+            subscription.request(n);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        if (done) {
+            return;
+        }
+        done = true;
+        completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        completion.complete(written);
+    }
+}
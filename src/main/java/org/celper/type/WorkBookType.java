@@ -21,7 +21,12 @@ public enum WorkBookType {
     /**
      * Xssf work book type.
      */
-    XSSF("xlsx");
+    XSSF("xlsx"),
+    /**
+     * Auto work book type.
+     * XSSF 로 시작해서 기록한 셀 수가 기준을 넘으면 SXSSF 로 바뀝니다. {@link org.celper.core.ExcelWorkBook} 와 함께 사용합니다.
+     */
+    AUTO("xlsx");
     private final String type;
     WorkBookType(String type) {
         this.type = type;
@@ -39,6 +44,7 @@ public enum WorkBookType {
             case SXSSF:
                 return new SXSSFWorkbook();
             case XSSF:
+            case AUTO:
                 return new XSSFWorkbook();
             default:
                 throw new UnsupportedWorkBookVersionException("Unsupported Workbook versions");
@@ -0,0 +1,99 @@
+package org.celper.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * The type Jfr sheet operation.
+ * jdk.jfr 에 의존하므로 {@link SheetOperations} 에서 jdk.jfr 을 확인한 뒤에만 불러옵니다. 다른 클래스에서 직접 참조하지 않습니다.
+ */
+@Name("org.celper.SheetOperation")
+@Label("Sheet Operation")
+@Category("Celper")
+@Description("modelToSheet, multiModelToSheet, sheetToModel, Workbook.write")
+@StackTrace(false)
+final class JfrSheetOperation extends Event implements SheetOperation {
+    @Label("Operation")
+    private String operation;
+
+    @Label("Model Class")
+    private Class<?> modelClass;
+
+    @Label("Sheet Name")
+    private String sheetName;
+
+    @Label("Workbook Type")
+    private String workbookType;
+
+    @Label("Rows")
+    private long rows;
+
+    @Label("Columns")
+    private int columns;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    /**
+     * Begin sheet operation.
+     *
+     * @param operation  the operation
+     * @param modelClass the model class
+     * @return 기록 중이 아니면 {@link SheetOperation#NONE}
+     */
+    static SheetOperation begin(String operation, Class<?> modelClass) {
+        JfrSheetOperation event = new JfrSheetOperation();
+        if (!event.isEnabled()) {
+            return SheetOperation.NONE;
+        }
+        event.operation = operation;
+        event.modelClass = modelClass;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void end(String sheetName, Workbook workbook, long rows, int columns) {
+        end();
+        if (shouldCommit()) {
+            this.sheetName = sheetName;
+            this.workbookType = workbookType(workbook);
+            this.rows = rows;
+            this.columns = columns;
+            commit();
+        }
+    }
+
+    @Override
+    public void end(Workbook workbook, long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.workbookType = workbookType(workbook);
+            this.bytesWritten = bytes;
+            commit();
+        }
+    }
+
+    private static String workbookType(Workbook workbook) {
+        if (workbook instanceof SXSSFWorkbook) {
+            return "SXSSF";
+        }
+        if (workbook instanceof XSSFWorkbook) {
+            return "XSSF";
+        }
+        if (workbook instanceof HSSFWorkbook) {
+            return "HSSF";
+        }
+        return workbook.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,103 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.util.DefaultTempFileCreationStrategy;
+import org.apache.poi.util.TempFile;
+import org.celper.annotation.Column;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncExportTest {
+    static class DTO {
+        @Column("번호")
+        private int number;
+
+        public DTO(int number) {
+            this.number = number;
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 기록 후 비동기 write")
+    void modelToSheetAsync() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.SXSSF);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            excelWorkBook.createSheet().modelToSheetAsync(DTO.class, IntStream.range(0, 3000).mapToObj(DTO::new), executor)
+                    .thenCompose(ignore -> excelWorkBook.writeAsync(outputStream, executor))
+                    .get(30, TimeUnit.SECONDS);
+            try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(outputStream.toByteArray()))) {
+                assertEquals(3000, workbook.getSheetAt(0).getLastRowNum());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("취소하면 다음 행 묶음에서 기록을 멈추고 SXSSF 임시 파일을 지움")
+    void cancel(@TempDir Path tempDir) throws Exception {
+        TempFile.setTempFileCreationStrategy(new DefaultTempFileCreationStrategy(tempDir.toFile()));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicInteger produced = new AtomicInteger();
+            ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.SXSSF);
+            Stream<DTO> endless = Stream.iterate(0, i -> i + 1).map(i -> {
+                if (produced.incrementAndGet() == 10_000) {
+                    started.countDown();
+                }
+                return new DTO(i);
+            });
+            CompletableFuture<Void> future = excelWorkBook.createSheet().modelToSheetAsync(DTO.class, endless, executor);
+
+            assertTrue(started.await(30, TimeUnit.SECONDS));
+            assertEquals(1, tempFiles(tempDir));
+            assertTrue(future.cancel(true));
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS)); // 끝없는 stream 이므로 멈추지 않으면 종료되지 않음
+            assertTrue(future.isCancelled());
+            assertEquals(0, tempFiles(tempDir));
+        } finally {
+            executor.shutdownNow();
+            TempFile.setTempFileCreationStrategy(new DefaultTempFileCreationStrategy());
+        }
+    }
+
+    private static long tempFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("예외는 future 로 전달")
+    void exceptionally() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        CompletableFuture<Void> future = excelWorkBook.createSheet().modelToSheetAsync(DTO.class,
+                Stream.<DTO>of(new DTO(1)).peek(dto -> {
+                    throw new IllegalStateException("fail");
+                }), Runnable :: run);
+        assertTrue(future.isCompletedExceptionally());
+    }
+}
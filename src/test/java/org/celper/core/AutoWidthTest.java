@@ -0,0 +1,106 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.celper.annotation.CellFormat;
+import org.celper.annotation.Column;
+import org.celper.annotation.SheetStyle;
+import org.celper.core.style.SheetStyleConfigurer;
+import org.celper.core.style.builder.SheetStyleBuilder;
+import org.celper.type.BuiltinCellFormatType;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoWidthTest {
+    public static class AutoWidth implements SheetStyleConfigurer {
+        @Override
+        public void config(SheetStyleBuilder builder) {
+            builder.isAutoWidth(true);
+        }
+    }
+
+    @SheetStyle(AutoWidth.class)
+    static class DTO {
+        @Column(value = "이름", priority = 1)
+        private String name;
+
+        @Column(value = "금액", priority = 2)
+        @CellFormat(builtinFormat = BuiltinCellFormatType.THOUSAND_SEPARATOR)
+        private long amount;
+
+        @Column(value = "날짜", priority = 3)
+        @CellFormat(builtinFormat = BuiltinCellFormatType.SIMPLE_DATE)
+        private LocalDate date;
+
+        public DTO(String name, long amount) {
+            this.name = name;
+            this.amount = amount;
+            this.date = LocalDate.of(2020, 1, 1);
+        }
+    }
+
+    static class NoAutoWidthDTO {
+        @Column("이름")
+        private String name = "a very long long long value";
+    }
+
+    @Test
+    @DisplayName("가장 긴 값에 맞춰 너비를 정하고 전각 문자는 두 칸으로 계산")
+    void autoWidth() {
+        ExcelSheet excelSheet = new ExcelWorkBook(WorkBookType.SXSSF).createSheet();
+        excelSheet.modelToSheet(DTO.class, Arrays.asList(new DTO("abc", 1), new DTO("가나다라마바", 1234567)).iterator());
+
+        Sheet sheet = excelSheet.getSheet();
+        assertEquals((12 + 2) * 256, sheet.getColumnWidth(0));  // 가나다라마바
+        assertEquals((9 + 2) * 256, sheet.getColumnWidth(1));   // 1,234,567
+        assertEquals((10 + 2) * 256, sheet.getColumnWidth(2));  // yyyy-mm-dd
+    }
+
+    @Test
+    @DisplayName("병렬 기록과 rollover 된 시트에도 각각 적용")
+    void autoWidthParallelRollover() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        ExcelSheet excelSheet = excelWorkBook.createSheet("data");
+        excelSheet.modelToSheet(DTO.class,
+                IntStream.range(0, 200).mapToObj(i -> new DTO(i < 100 ? "a" : "abcdefghijklmnopqrst", i)),
+                new ExportOptions().parallel().setParallelChunkSize(16).rollover(101));
+
+        assertEquals((4 + 2) * 256, excelWorkBook.getWorkbook().getSheet("data").getColumnWidth(0));   // 헤더 "이름"
+        assertEquals((20 + 2) * 256, excelWorkBook.getWorkbook().getSheet("data_2").getColumnWidth(0));
+    }
+
+    @Test
+    @DisplayName("modelWriter 는 기록하는 동안 너비를 늘림")
+    void autoWidthModelWriter() {
+        ExcelSheet excelSheet = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        excelSheet.modelWriter(DTO.class).accept(new DTO("abcdefgh", 1));
+
+        assertEquals((8 + 2) * 256, excelSheet.getSheet().getColumnWidth(0));
+    }
+
+    @Test
+    @DisplayName("설정하지 않으면 너비를 바꾸지 않음")
+    void noAutoWidth() {
+        ExcelSheet excelSheet = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        int defaultWidth = excelSheet.getSheet().getColumnWidth(0);
+        excelSheet.modelToSheet(NoAutoWidthDTO.class, Arrays.asList(new NoAutoWidthDTO()).iterator());
+
+        assertEquals(defaultWidth, excelSheet.getSheet().getColumnWidth(0));
+    }
+
+    @Test
+    @DisplayName("문자 폭 계산")
+    void displayWidth() {
+        assertEquals(3, ColumnWidthTracker.displayWidth("abc"));
+        assertEquals(4, ColumnWidthTracker.displayWidth("한글"));
+        assertEquals(4, ColumnWidthTracker.displayWidth("漢字"));
+        assertEquals(5, ColumnWidthTracker.displayWidth("ab\nabcde\nc"));
+        assertEquals(2, ColumnWidthTracker.displayWidth("😀"));
+    }
+}
@@ -0,0 +1,102 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.celper.annotation.Column;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoWorkBookTest {
+    static class DTO {
+        @Column("번호")
+        private int number;
+
+        @Column("이름")
+        private String name;
+
+        public DTO(int number) {
+            this.number = number;
+            this.name = "name" + number;
+        }
+    }
+
+    @Test
+    @DisplayName("기준보다 적게 기록하면 XSSF 를 유지")
+    void staysXssf() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.AUTO).setAutoCellThreshold(1000);
+        excelWorkBook.createSheet().modelToSheet(DTO.class, IntStream.range(0, 100).mapToObj(DTO::new).iterator());
+
+        assertFalse(excelWorkBook.isStreaming());
+        assertTrue(excelWorkBook.getWorkbook() instanceof XSSFWorkbook);
+    }
+
+    @Test
+    @DisplayName("스트리밍 입력은 기록 중 기준을 넘으면 SXSSF 로 바뀌고 모든 행이 기록됨")
+    void switchWhileWriting() throws Exception {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.AUTO).setAutoCellThreshold(1000);
+        ExcelSheet sheet = excelWorkBook.createSheet("data");
+        sheet.modelToSheet(DTO.class, IntStream.range(0, 3000).mapToObj(DTO::new).iterator());
+
+        assertTrue(excelWorkBook.isStreaming());
+        assertTrue(excelWorkBook.getWorkbook() instanceof SXSSFWorkbook);
+        assertSame(excelWorkBook.getWorkbook(), sheet.getSheet().getWorkbook());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        excelWorkBook.write(outputStream);
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(3000, workbook.getSheet("data").getLastRowNum());
+            assertEquals("번호", workbook.getSheet("data").getRow(0).getCell(0).getStringCellValue());
+            assertEquals(2999, workbook.getSheet("data").getRow(3000).getCell(0).getNumericCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("크기를 아는 입력은 기록하기 전에 SXSSF 로 바뀜")
+    void switchBeforeWriting() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.AUTO).setAutoCellThreshold(1000);
+        List<DTO> models = IntStream.range(0, 600).mapToObj(DTO::new).collect(Collectors.toList());
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        sheet.modelToSheet(models);
+
+        assertTrue(excelWorkBook.isStreaming());
+        assertEquals(-1, ((SXSSFWorkbook) excelWorkBook.getWorkbook()).getXSSFWorkbook().getSheetAt(0).getLastRowNum()); // 헤더부터 SXSSF 로 기록
+        excelWorkBook.dispose();
+    }
+
+    @Test
+    @DisplayName("바뀐 뒤에 만든 시트와 다른 시트도 SXSSF 로 기록")
+    void sheetsAfterSwitch() throws Exception {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.AUTO).setAutoCellThreshold(100);
+        ExcelSheet first = excelWorkBook.createSheet("first");
+        first.modelToSheet(DTO.class, IntStream.range(0, 200).mapToObj(DTO::new).iterator());
+        excelWorkBook.createSheet("second").multiModelToSheet(IntStream.range(0, 50).mapToObj(DTO::new).iterator());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        excelWorkBook.write(outputStream);
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(200, workbook.getSheet("first").getLastRowNum());
+            assertEquals(50, workbook.getSheet("second").getLastRowNum());
+        }
+    }
+
+    @Test
+    @DisplayName("AUTO 가 아니면 기준을 설정해도 바뀌지 않음")
+    void notAuto() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF).setAutoCellThreshold(10);
+        excelWorkBook.createSheet().modelToSheet(DTO.class, IntStream.range(0, 100).mapToObj(DTO::new).iterator());
+
+        assertFalse(excelWorkBook.isStreaming());
+        assertThrows(IllegalArgumentException.class, () -> excelWorkBook.setAutoCellThreshold(0));
+    }
+}
@@ -0,0 +1,82 @@
+package org.celper.core;
+
+import org.celper.annotation.Column;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchImportTest {
+    static class DTO {
+        @Column("이름")
+        private String name;
+
+        @Column("나이")
+        private int age;
+
+        public DTO() {
+        }
+
+        public DTO(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    @DisplayName("batchSize 만큼 나눠서 전달하고 마지막 남은 행도 전달")
+    void sheetToModelBatch() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        sheet.modelToSheet(DTO.class, IntStream.range(0, 25).mapToObj(i -> new DTO("name" + i, i)));
+
+        List<Integer> batchSizes = new ArrayList<>();
+        List<DTO> result = new ArrayList<>();
+        List<List<DTO>> batches = new ArrayList<>();
+        sheet.sheetToModel(DTO.class, 10, batch -> {
+            batchSizes.add(batch.size());
+            batches.add(batch);
+            result.addAll(batch);
+        });
+
+        assertEquals(Arrays.asList(10, 10, 5), batchSizes);
+        assertEquals(25, result.size());
+        assertEquals("name24", result.get(24).name);
+        assertSame(batches.get(0), batches.get(2)); // 같은 리스트를 재사용
+    }
+
+    @Test
+    @DisplayName("스트리밍 리더도 batchSize 만큼 나눠서 전달")
+    void streamReaderBatch() throws IOException {
+        File file = new File(tempDir, "batch.xlsx");
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.SXSSF);
+        excelWorkBook.createSheet().modelToSheet(DTO.class, IntStream.range(0, 7).mapToObj(i -> new DTO("name" + i, i)));
+        excelWorkBook.write(new FileOutputStream(file));
+
+        List<Integer> batchSizes = new ArrayList<>();
+        try (ExcelStreamReader reader = new ExcelStreamReader(file)) {
+            reader.sheetToModel(DTO.class, 3, batch -> batchSizes.add(batch.size()));
+        }
+        assertEquals(Arrays.asList(3, 3, 1), batchSizes);
+    }
+
+    @Test
+    @DisplayName("예외 IllegalArgumentException - batchSize 가 0 이하")
+    void invalidBatchSize() {
+        ExcelSheet sheet = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        assertThrows(IllegalArgumentException.class, () -> sheet.sheetToModel(DTO.class, 0, batch -> {}));
+    }
+}
@@ -0,0 +1,86 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.celper.annotation.CellFormat;
+import org.celper.annotation.Column;
+import org.celper.annotation.ColumnStyle;
+import org.celper.annotation.SheetStyle;
+import org.celper.core.style.CellStyleConfigurer;
+import org.celper.core.style.SheetStyleConfigurer;
+import org.celper.core.style.builder.CellStyleBuilder;
+import org.celper.core.style.builder.SheetStyleBuilder;
+import org.celper.type.BuiltinCellFormatType;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CellStyleRegistryTest {
+    public static class BorderSheetStyle implements SheetStyleConfigurer {
+        @Override
+        public void config(SheetStyleBuilder builder) {
+            builder.isFitToPage(true)
+                    .cellStyleBuilder()
+                    .setAllOfBorder(BorderStyle.HAIR);
+        }
+    }
+
+    public static class BoldCellStyle implements CellStyleConfigurer {
+        @Override
+        public void config(CellStyleBuilder builder) {
+            builder.font().isBold(true);
+        }
+    }
+
+    @SheetStyle(BorderSheetStyle.class)
+    static class DTO {
+        @Column("field1")
+        @ColumnStyle(headerAreaStyle = BoldCellStyle.class)
+        private String val1;
+
+        @Column("field2")
+        @ColumnStyle(headerAreaStyle = BoldCellStyle.class)
+        private String val2;
+
+        @Column("field3")
+        @CellFormat(builtinFormat = BuiltinCellFormatType.DECIMAL)
+        private double val3;
+
+        DTO(String val1, String val2, double val3) {
+            this.val1 = val1;
+            this.val2 = val2;
+            this.val3 = val3;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 시트에 같은 모델을 기록해도 CellStyle 은 조합별로 하나만 생성")
+    void sharedCellStyle() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        List<DTO> datas = Collections.singletonList(new DTO("val1", "val2", 1.5));
+        int before = excelWorkBook.getWorkbook().getNumCellStyles();
+
+        int sheetCount = 40;
+        for (int i = 0; i < sheetCount; i++) {
+            excelWorkBook.createSheet("sheet" + i).modelToSheet(datas);
+        }
+
+        // sheet default + header(bold) + header(none) + data(General) + data(0.00)
+        assertEquals(before + 5, excelWorkBook.getWorkbook().getNumCellStyles());
+
+        Sheet first = excelWorkBook.getWorkbook().getSheetAt(0);
+        Sheet last = excelWorkBook.getWorkbook().getSheetAt(sheetCount - 1);
+        assertTrue(last.getFitToPage());
+        CellStyle header = first.getRow(0).getCell(0).getCellStyle();
+        assertEquals(header.getIndex(), first.getRow(0).getCell(1).getCellStyle().getIndex());
+        assertEquals(header.getIndex(), last.getRow(0).getCell(0).getCellStyle().getIndex());
+        assertEquals(BorderStyle.HAIR, header.getBorderBottom());
+        assertEquals("0.00", last.getRow(1).getCell(2).getCellStyle().getDataFormatString());
+    }
+}
@@ -0,0 +1,208 @@
+package org.celper.core;
+
+import org.celper.annotation.Column;
+import org.celper.annotation.DefaultValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTest {
+    enum Grade {
+        A, B
+    }
+
+    static class DTO {
+        @Column(value = "이름", priority = 2)
+        private String name;
+
+        @Column(value = "나이", priority = 1)
+        private int age;
+
+        @Column(value = "점수", priority = 3)
+        private Double score;
+
+        @Column(value = "등급", priority = 4)
+        private Grade grade;
+
+        @Column(value = "생일", priority = 5)
+        private LocalDate birthday;
+
+        @Column(value = "가입일", priority = 6)
+        private LocalDateTime joinedAt;
+
+        @Column(value = "비고", priority = 7)
+        @DefaultValue("없음")
+        private String memo;
+
+        public DTO() {
+        }
+
+        public DTO(String name, int age, Double score) {
+            this.name = name;
+            this.age = age;
+            this.score = score;
+            this.grade = Grade.B;
+            this.birthday = LocalDate.of(2000, 1, 2);
+            this.joinedAt = LocalDateTime.of(2020, 3, 4, 5, 6, 7);
+        }
+    }
+
+    static class ImportNameDTO {
+        @Column(value = "이름", importNameOptions = {"name", "성명"})
+        private String name;
+
+        @Column(value = "나이", importNameOptions = {"age"})
+        private long age;
+    }
+
+    @Test
+    @DisplayName("priority 순서로 헤더와 값을 기록하고 DefaultValue 를 사용")
+    void modelToCsv() {
+        StringWriter writer = new StringWriter();
+        new CsvWriter(writer).modelToCsv(DTO.class, Arrays.asList(new DTO("kim", 20, 1.5), new DTO("lee", 30, null)).iterator());
+
+        String[] lines = writer.toString().split("\r\n");
+        assertEquals("나이,이름,점수,등급,생일,가입일,비고", lines[0]);
+        assertEquals("20,kim,1.5,B,2000-01-02,2020-03-04T05:06:07,없음", lines[1]);
+        assertEquals("30,lee,,B,2000-01-02,2020-03-04T05:06:07,없음", lines[2]);
+    }
+
+    @Test
+    @DisplayName("구분자, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싸고 다시 읽으면 같은 값")
+    void quoted() {
+        List<String> names = Arrays.asList("a,b", "say \"hi\"", "line\nbreak", "crlf\r\nbreak", "");
+        StringWriter writer = new StringWriter();
+        new CsvWriter(writer).modelToCsv(DTO.class, names.stream().map(name -> new DTO(name, 1, 2.0)));
+
+        assertTrue(writer.toString().contains("\"say \"\"hi\"\"\""));
+        List<String> result = new CsvReader(new StringReader(writer.toString())).csvToModel(DTO.class)
+                .map(dto -> dto.name)
+                .collect(Collectors.toList());
+        assertEquals(names, result);
+    }
+
+    @Test
+    @DisplayName("기록한 CSV 를 다시 읽으면 같은 값")
+    void roundTrip() {
+        StringWriter writer = new StringWriter();
+        new CsvWriter(writer).modelToCsv(DTO.class, IntStream.range(0, 1000).mapToObj(i -> new DTO("name" + i, i, i / 2.0)));
+
+        List<DTO> result = new CsvReader(new StringReader(writer.toString())).csvToModel(DTO.class).collect(Collectors.toList());
+        assertEquals(1000, result.size());
+        DTO last = result.get(999);
+        assertEquals("name999", last.name);
+        assertEquals(999, last.age);
+        assertEquals(499.5, last.score);
+        assertEquals(Grade.B, last.grade);
+        assertEquals(LocalDate.of(2000, 1, 2), last.birthday);
+        assertEquals(LocalDateTime.of(2020, 3, 4, 5, 6, 7), last.joinedAt);
+        assertEquals("없음", last.memo);
+    }
+
+    static class PrimitiveDTO {
+        @Column(value = "번호", priority = 1)
+        private long id;
+
+        @Column(value = "구분", priority = 2)
+        private char mark;
+
+        @Column(value = "수량", priority = 3)
+        private short count;
+
+        public PrimitiveDTO() {
+        }
+
+        public PrimitiveDTO(long id, char mark, short count) {
+            this.id = id;
+            this.mark = mark;
+            this.count = count;
+        }
+    }
+
+    @Test
+    @DisplayName("primitive long / char 는 boxing 없이 기록하고, 구분자 char 는 따옴표로 감쌈")
+    void primitiveValues() {
+        StringWriter writer = new StringWriter();
+        new CsvWriter(writer).modelToCsv(PrimitiveDTO.class, Arrays.asList(
+                new PrimitiveDTO(Long.MAX_VALUE, 'A', (short) 3),
+                new PrimitiveDTO(-1L, ',', (short) -2),
+                new PrimitiveDTO(0L, '"', (short) 0)).iterator());
+        assertEquals("번호,구분,수량\r\n" + Long.MAX_VALUE + ",A,3\r\n-1,\",\",-2\r\n0,\"\"\"\",0\r\n", writer.toString());
+    }
+
+    @Test
+    @DisplayName("long 최솟값과 최댓값도 그대로 기록")
+    void longBounds() {
+        StringWriter writer = new StringWriter();
+        new CsvWriter(writer).modelToCsv(PrimitiveDTO.class, Arrays.asList(
+                new PrimitiveDTO(Long.MIN_VALUE, 'A', Short.MIN_VALUE),
+                new PrimitiveDTO(Long.MAX_VALUE, 'B', Short.MAX_VALUE)).iterator());
+        assertEquals("번호,구분,수량\r\n" + Long.MIN_VALUE + ",A," + Short.MIN_VALUE + "\r\n"
+                + Long.MAX_VALUE + ",B," + Short.MAX_VALUE + "\r\n", writer.toString());
+    }
+
+    @Test
+    @DisplayName("소수는 짧은 자릿수로 기록하고 다시 읽으면 같은 값")
+    void decimalValues() {
+        double[] scores = {12.34, -0.5, 0.00001, 0.1 + 0.2, 1e20, 1234567.125};
+        StringWriter writer = new StringWriter();
+        new CsvWriter(writer).modelToCsv(DTO.class,
+                Arrays.stream(scores).mapToObj(score -> new DTO("kim", 20, score)).iterator());
+
+        String[] lines = writer.toString().split("\r\n");
+        assertEquals("12.34", lines[1].split(",")[2]);
+        assertEquals("-0.5", lines[2].split(",")[2]);
+        assertEquals("0.00001", lines[3].split(",")[2]);
+        assertEquals("0.30000000000000004", lines[4].split(",")[2]);
+        List<DTO> result = new CsvReader(new StringReader(writer.toString())).csvToModel(DTO.class).collect(Collectors.toList());
+        for (int i = 0; i < scores.length; i++) {
+            assertEquals(scores[i], result.get(i).score);
+        }
+    }
+
+    @Test
+    @DisplayName("TSV 는 탭으로 구분")
+    void tsv() {
+        StringWriter writer = new StringWriter();
+        CsvWriter.tsv(writer).modelToCsv(DTO.class, Arrays.asList(new DTO("a,b", 1, 1.0)).iterator());
+
+        assertTrue(writer.toString().startsWith("나이\t이름\t"));
+        assertTrue(writer.toString().contains("1\ta,b\t1\t"));
+        DTO dto = CsvReader.tsv(new StringReader(writer.toString())).csvToModel(DTO.class).findFirst().get();
+        assertEquals("a,b", dto.name);
+    }
+
+    @Test
+    @DisplayName("importNameOptions 로 헤더를 찾고, 헤더 위의 행과 빈 줄은 건너뜀")
+    void importNameOptions() {
+        String csv = "\uFEFF제목,,\r\n\r\n성명,비고,age\nkim,x,20\n\nlee,y,30";
+
+        List<ImportNameDTO> result = new CsvReader(new StringReader(csv)).csvToModel(ImportNameDTO.class).collect(Collectors.toList());
+
+        assertEquals(2, result.size());
+        assertEquals("kim", result.get(0).name);
+        assertEquals(20L, result.get(0).age);
+        assertEquals("lee", result.get(1).name);
+        assertEquals(30L, result.get(1).age);
+    }
+
+    @Test
+    @DisplayName("헤더가 일부만 있으면 탐색 범위 안의 데이터 행도 모델로 변환")
+    void partialHeader() {
+        String csv = "성명\nkim\nlee";
+
+        List<ImportNameDTO> result = new CsvReader(new StringReader(csv)).csvToModel(ImportNameDTO.class).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("kim", "lee"), result.stream().map(dto -> dto.name).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,102 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.celper.annotation.Column;
+import org.celper.exception.NoSuchFieldException;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExcelStreamReaderTest {
+    static class DTO {
+        @Column(value = "이름", importNameOptions = {"성명"})
+        private String name;
+
+        @Column("나이")
+        private int age;
+
+        @Column("재학")
+        private boolean enrolled;
+
+        public DTO() {
+        }
+
+        public DTO(String name, int age, boolean enrolled) {
+            this.name = name;
+            this.age = age;
+            this.enrolled = enrolled;
+        }
+    }
+
+    static class UnknownDTO {
+        @Column("unknown")
+        private String unknown;
+    }
+
+    @TempDir
+    File tempDir;
+
+    private File writeWorkbook(int rowCount) throws IOException {
+        File file = new File(tempDir, "stream-reader.xlsx");
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.SXSSF);
+        ExcelSheet sheet = excelWorkBook.createSheet("학생");
+        sheet.modelToSheet(DTO.class, IntStream.range(0, rowCount).mapToObj(i -> new DTO("name" + i, i, i % 2 == 0)));
+        excelWorkBook.write(new FileOutputStream(file));
+        return file;
+    }
+
+    @Test
+    @DisplayName("스트리밍으로 시트를 읽어서 모델로 변환")
+    void sheetToModel() throws IOException {
+        File file = writeWorkbook(500);
+        try (ExcelStreamReader reader = new ExcelStreamReader(file);
+             Stream<DTO> stream = reader.sheetToModel(DTO.class)) {
+            List<DTO> result = stream.collect(Collectors.toList());
+            assertEquals(500, result.size());
+            assertEquals("name499", result.get(499).name);
+            assertEquals(499, result.get(499).age);
+            assertEquals(true, result.get(0).enrolled);
+        }
+    }
+
+    @Test
+    @DisplayName("시트 이름으로 찾고 importNameOptions 로 헤더 매칭")
+    void importNameOption() throws IOException {
+        File file = new File(tempDir, "import-name.xlsx");
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        ExcelSheet sheet = excelWorkBook.createSheet("first");
+        excelWorkBook.createSheet("second");
+        Row header = sheet.getSheet().createRow(2);
+        header.createCell(1).setCellValue(" 성명 ");
+        sheet.getSheet().createRow(3).createCell(1).setCellValue("홍길동");
+        excelWorkBook.write(new FileOutputStream(file));
+
+        try (ExcelStreamReader reader = new ExcelStreamReader(file)) {
+            assertEquals(2, reader.getSheetNames().size());
+            List<DTO> result = reader.sheetToModel("first", DTO.class).collect(Collectors.toList());
+            assertEquals(1, result.size());
+            assertEquals("홍길동", result.get(0).name);
+        }
+    }
+
+    @Test
+    @DisplayName("매칭되는 컬럼이 없을때 - NoSuchFieldException")
+    void noSuchField() throws IOException {
+        File file = writeWorkbook(1);
+        try (ExcelStreamReader reader = new ExcelStreamReader(file)) {
+            Assertions.assertThrows(NoSuchFieldException.class, () -> reader.sheetToModel(UnknownDTO.class));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.celper.annotation.CellFormat;
+import org.celper.annotation.Column;
+import org.celper.annotation.DefaultValue;
+import org.celper.type.BuiltinCellFormatType;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelStreamWriterTest {
+    static class DTO {
+        @Column("이름")
+        private String name;
+
+        @Column("번호")
+        private int number;
+
+        @Column("점수")
+        private double score;
+
+        @Column("재학")
+        private boolean enrolled;
+
+        @Column("비고")
+        @DefaultValue("없음")
+        private String memo;
+
+        @Column("입학일")
+        @CellFormat(builtinFormat = BuiltinCellFormatType.SIMPLE_DATE)
+        private LocalDate admission;
+
+        public DTO() {
+        }
+
+        public DTO(int i) {
+            this.name = i == 3 ? " <a & b> " : "name" + i;
+            this.number = i;
+            this.score = i + 0.25;
+            this.enrolled = i % 2 == 0;
+            this.memo = i % 3 == 0 ? null : "memo" + i;
+            this.admission = LocalDate.of(2020, 1, 1).plusDays(i);
+        }
+    }
+
+    @TempDir
+    File tempDir;
+
+    private static byte[] writeDirect(int rowCount) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelStreamWriter writer = new ExcelStreamWriter(outputStream)) {
+            writer.modelToSheet("학생", DTO.class, IntStream.range(0, rowCount).mapToObj(DTO::new));
+            writer.modelToSheet("두번째 & 시트", DTO.class, Stream.of(new DTO(1)));
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    @DisplayName("직접 기록한 xlsx 를 POI 로 읽으면 ExcelSheet 로 기록한 값과 같음")
+    void sameAsUserModel() throws IOException {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        excelWorkBook.createSheet("학생").modelToSheet(DTO.class, IntStream.range(0, 20).mapToObj(DTO::new));
+
+        try (Workbook direct = WorkbookFactory.create(new ByteArrayInputStream(writeDirect(20)))) {
+            assertEquals(2, direct.getNumberOfSheets());
+            assertEquals("두번째 & 시트", direct.getSheetName(1));
+            Sheet expected = excelWorkBook.getSheetAt(0).get().getSheet();
+            Sheet actual = direct.getSheet("학생");
+            assertEquals(expected.getLastRowNum(), actual.getLastRowNum());
+            for (int rowIdx = 0; rowIdx <= expected.getLastRowNum(); rowIdx++) {
+                Row expectedRow = expected.getRow(rowIdx);
+                Row actualRow = actual.getRow(rowIdx);
+                for (int colIdx = 0; colIdx < expectedRow.getLastCellNum(); colIdx++) {
+                    assertEquals(expectedRow.getCell(colIdx).getCellType(), actualRow.getCell(colIdx).getCellType());
+                    assertEquals(expectedRow.getCell(colIdx).toString(), actualRow.getCell(colIdx).toString());
+                    assertEquals(expectedRow.getCell(colIdx).getCellStyle().getDataFormatString(),
+                            actualRow.getCell(colIdx).getCellStyle().getDataFormatString());
+                }
+            }
+            assertEquals(" <a & b> ", actual.getRow(4).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("sharedStrings 사용 - 문자열을 sharedStrings.xml 로 모아서 기록")
+    void sharedStrings() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelStreamWriter writer = new ExcelStreamWriter(outputStream).setSharedStrings(true)) {
+            writer.modelToSheet("학생", DTO.class, IntStream.range(0, 100).mapToObj(DTO::new));
+        }
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("이름", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("name99", sheet.getRow(100).getCell(0).getStringCellValue());
+            assertEquals(" <a & b> ", sheet.getRow(4).getCell(0).getStringCellValue());
+            assertEquals("없음", sheet.getRow(1).getCell(4).getStringCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("행을 만드는 동안 출력 스트림으로 먼저 전송")
+    void progressiveOutput() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int[] sizeAtRow = new int[1];
+        try (ExcelStreamWriter writer = new ExcelStreamWriter(outputStream).setFlushRowInterval(100)) {
+            writer.modelToSheet("학생", DTO.class, IntStream.range(0, 50000).mapToObj(i -> {
+                if (i == 49999) {
+                    sizeAtRow[0] = outputStream.size();
+                }
+                return new DTO(i);
+            }));
+            assertTrue(sizeAtRow[0] > 0);
+        }
+        assertTrue(outputStream.size() > sizeAtRow[0]);
+    }
+
+    @Test
+    @DisplayName("시트 없이 닫으면 빈 시트 하나로 유효한 xlsx 를 만듦")
+    void closeEmpty() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new ExcelStreamWriter(outputStream).close();
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(1, workbook.getNumberOfSheets());
+        }
+    }
+
+    @Test
+    @DisplayName("예외 IllegalStateException - 시트를 기록한 뒤 sharedStrings 설정")
+    void sharedStringsAfterSheet() throws IOException {
+        try (ExcelStreamWriter writer = new ExcelStreamWriter(new ByteArrayOutputStream())) {
+            writer.modelToSheet(DTO.class, Stream.of(new DTO(1)).iterator());
+            assertThrows(IllegalStateException.class, () -> writer.setSharedStrings(true));
+        }
+    }
+
+    @Test
+    @DisplayName("직접 기록한 xlsx 를 다시 모델로 변환")
+    void roundTrip() throws IOException {
+        File file = new File(tempDir, "direct.xlsx");
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write(writeDirect(2000));
+        }
+        try (ExcelStreamReader reader = new ExcelStreamReader(file);
+             Stream<DTO> stream = reader.sheetToModel("학생", DTO.class)) {
+            List<DTO> result = stream.collect(Collectors.toList());
+            assertEquals(2000, result.size());
+            assertEquals("name1999", result.get(1999).name);
+            assertEquals(1999.25, result.get(1999).score);
+            assertEquals(LocalDate.of(2020, 1, 1).plusDays(1999), result.get(1999).admission);
+            assertEquals("없음", result.get(0).memo);
+        }
+    }
+}
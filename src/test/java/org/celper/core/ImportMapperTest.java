@@ -0,0 +1,74 @@
+package org.celper.core;
+
+import org.celper.annotation.Column;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportMapperTest {
+    enum Grade {A, B}
+
+    static class DTO {
+        @Column("int")
+        private int intValue;
+        @Column("long")
+        private Long longValue;
+        @Column("boolean")
+        private boolean booleanValue;
+        @Column("bigDecimal")
+        private BigDecimal bigDecimal;
+        @Column("localDate")
+        private LocalDate localDate;
+        @Column("localDateTime")
+        private LocalDateTime localDateTime;
+        @Column("grade")
+        private Grade grade;
+        @Column("string")
+        private String string;
+
+        private DTO() {
+        }
+    }
+
+    @Test
+    @DisplayName("기록한 시트를 다시 읽으면 타입별로 같은 값")
+    void roundTrip() {
+        DTO dto = new DTO();
+        dto.intValue = 3;
+        dto.longValue = 40L;
+        dto.booleanValue = true;
+        dto.bigDecimal = new BigDecimal("12.5");
+        dto.localDate = LocalDate.of(2020, 1, 2);
+        dto.localDateTime = LocalDateTime.of(2020, 1, 2, 3, 4, 5);
+        dto.grade = Grade.B;
+
+        ExcelSheet sheet = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        sheet.modelToSheet(Collections.singletonList(dto));
+        sheet.getSheet().createRow(2).createCell(0).setCellValue("not a number");
+        List<DTO> result = sheet.sheetToModel(DTO.class);
+
+        DTO first = result.get(0);
+        assertEquals(3, first.intValue);
+        assertEquals(40L, first.longValue);
+        assertTrue(first.booleanValue);
+        assertEquals(0, new BigDecimal("12.5").compareTo(first.bigDecimal));
+        assertEquals(dto.localDate, first.localDate);
+        assertEquals(dto.localDateTime, first.localDateTime);
+        assertEquals(Grade.B, first.grade);
+        assertEquals("", first.string);
+
+        DTO second = result.get(1);
+        assertEquals(0, second.intValue);
+        assertNull(second.longValue);
+        assertFalse(second.booleanValue);
+        assertNull(second.localDate);
+    }
+}
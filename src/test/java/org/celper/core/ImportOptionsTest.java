@@ -0,0 +1,67 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.celper.annotation.Column;
+import org.celper.exception.NoSuchFieldException;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImportOptionsTest {
+    static class DTO {
+        @Column(value = "이름", importNameOptions = {"성명", "name"})
+        private String name;
+
+        @Column(value = "별명", importNameOptions = {"name"})
+        private String nickName;
+
+        public DTO() {
+        }
+    }
+
+    private ExcelSheet excelSheet;
+
+    @BeforeEach
+    void setSheet() {
+        this.excelSheet = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        Sheet sheet = excelSheet.getSheet();
+        sheet.createRow(0).createCell(0).setCellValue("제목");
+        Row header = sheet.createRow(150);
+        header.createCell(3).setCellValue("name");
+        header.createCell(4).setCellValue(" name ");
+        Row data = sheet.createRow(151);
+        data.createCell(3).setCellValue("홍길동");
+        data.createCell(4).setCellValue("길동");
+    }
+
+    @Test
+    @DisplayName("기본 탐색 범위(100행)를 벗어난 헤더 - NoSuchFieldException")
+    void defaultScanRange() {
+        Assertions.assertThrows(NoSuchFieldException.class, () -> excelSheet.sheetToModel(DTO.class));
+    }
+
+    @Test
+    @DisplayName("탐색 범위 지정 - 같은 이름은 먼저 정의된 컬럼부터 매칭")
+    void scanRowRange() {
+        List<DTO> result = excelSheet.sheetToModel(DTO.class, new ImportOptions().setScanRowRange(200));
+        assertEquals(1, result.size());
+        assertEquals("홍길동", result.get(0).name);
+        assertEquals("길동", result.get(0).nickName);
+    }
+
+    @Test
+    @DisplayName("헤더 행 지정")
+    void headerRowIndex() {
+        List<DTO> result = excelSheet.sheetToModel(DTO.class, new ImportOptions().setHeaderRowIndex(150));
+        assertEquals("홍길동", result.get(0).name);
+        Assertions.assertThrows(NoSuchFieldException.class,
+                () -> excelSheet.sheetToModel(DTO.class, new ImportOptions().setHeaderRowIndex(0)));
+    }
+}
@@ -0,0 +1,87 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.celper.annotation.Column;
+import org.celper.annotation.DefaultValue;
+import org.celper.exception.DataListEmptyException;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiModelToSheetTest {
+    static class Student {
+        @Column("이름")
+        private String name;
+
+        public Student(String name) {
+            this.name = name;
+        }
+    }
+
+    static class Info {
+        @Column("주소")
+        @DefaultValue("없음")
+        private String address;
+
+        @Column("나이")
+        private int age;
+
+        public Info(String address, int age) {
+            this.address = address;
+            this.age = age;
+        }
+    }
+
+    @Test
+    @DisplayName("인자 순서대로 컬럼을 배치하고 입력 리스트는 변경하지 않음")
+    void argumentOrder() {
+        ExcelSheet excelSheet = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        List<Student> students = Collections.singletonList(new Student("홍길동"));
+        List<Info> infos = Arrays.asList(new Info("1번지", 20), new Info("2번지", 23));
+        List<?>[] modelLists = {students, infos};
+        excelSheet.multiModelToSheet(modelLists);
+
+        assertSame(students, modelLists[0]);
+        Sheet sheet = excelSheet.getSheet();
+        Row header = sheet.getRow(0);
+        assertEquals("이름", header.getCell(0).getStringCellValue());
+        assertEquals("주소", header.getCell(1).getStringCellValue());
+        assertEquals("나이", header.getCell(2).getStringCellValue());
+        assertEquals(2, sheet.getLastRowNum());
+        assertEquals("홍길동", sheet.getRow(1).getCell(0).getStringCellValue());
+        assertEquals("", sheet.getRow(2).getCell(0).getStringCellValue());
+        assertEquals("2번지", sheet.getRow(2).getCell(1).getStringCellValue());
+        assertEquals(23, sheet.getRow(2).getCell(2).getNumericCellValue());
+    }
+
+    @Test
+    @DisplayName("Stream 입력 - 리스트로 모으지 않고 한 행씩 기록")
+    void streams() {
+        ExcelSheet excelSheet = new ExcelWorkBook(WorkBookType.SXSSF).createSheet();
+        excelSheet.multiModelToSheet(IntStream.range(0, 1000).mapToObj(i -> new Info(null, i)),
+                IntStream.range(0, 500).mapToObj(i -> new Student("name" + i)));
+        Sheet sheet = excelSheet.getSheet();
+        assertEquals(1000, sheet.getLastRowNum());
+        Row last = sheet.getRow(1000);
+        assertEquals("없음", last.getCell(0).getStringCellValue());
+        assertEquals(999, last.getCell(1).getNumericCellValue());
+    }
+
+    @Test
+    @DisplayName("예외 DataListEmptyException - 원소가 없는 입력은 타입을 알 수 없음")
+    void emptyInput() {
+        ExcelSheet excelSheet = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        assertThrows(DataListEmptyException.class,
+                () -> excelSheet.multiModelToSheet(Stream.of(new Student("a")), new ArrayList<Info>().stream()));
+    }
+}
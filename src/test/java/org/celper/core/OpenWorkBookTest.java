@@ -0,0 +1,77 @@
+package org.celper.core;
+
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.celper.annotation.Column;
+import org.celper.exception.ExcelException;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenWorkBookTest {
+    static class DTO {
+        @Column("번호")
+        private int number;
+
+        public DTO() {
+        }
+
+        public DTO(int number) {
+            this.number = number;
+        }
+    }
+
+    @TempDir
+    Path tempDir;
+
+    private Path createFile(WorkBookType workBookType, String fileName) throws IOException {
+        Path path = tempDir.resolve(fileName);
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(workBookType);
+        excelWorkBook.createSheet("data").modelToSheet(DTO.class, IntStream.range(0, 100).mapToObj(DTO::new).iterator());
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            excelWorkBook.write(outputStream);
+        }
+        return path;
+    }
+
+    @Test
+    @DisplayName("xlsx 파일을 읽기 전용 OPCPackage 로 열고 원본은 바꾸지 않음")
+    void openXlsx() throws Exception {
+        Path path = createFile(WorkBookType.XSSF, "data.xlsx");
+        byte[] before = Files.readAllBytes(path);
+
+        try (ExcelWorkBook excelWorkBook = ExcelWorkBook.open(path)) {
+            assertEquals(PackageAccess.READ, ((XSSFWorkbook) excelWorkBook.getWorkbook()).getPackage().getPackageAccess());
+            List<DTO> result = excelWorkBook.getSheetByName("data").get().sheetToModel(DTO.class);
+            assertEquals(100, result.size());
+            assertEquals(99, result.get(99).number);
+        }
+        assertArrayEquals(before, Files.readAllBytes(path));
+    }
+
+    @Test
+    @DisplayName("xls 파일은 POIFSFileSystem 으로 엶")
+    void openXls() throws Exception {
+        Path path = createFile(WorkBookType.HSSF, "data.xls");
+
+        try (ExcelWorkBook excelWorkBook = ExcelWorkBook.open(path, true)) {
+            assertEquals(100, excelWorkBook.getSheetAt(0).get().sheetToModel(DTO.class).size());
+        }
+    }
+
+    @Test
+    @DisplayName("없는 파일은 ExcelException")
+    void openMissingFile() {
+        assertThrows(ExcelException.class, () -> ExcelWorkBook.open(tempDir.resolve("missing.xlsx")));
+    }
+}
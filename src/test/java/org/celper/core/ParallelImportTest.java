@@ -0,0 +1,99 @@
+package org.celper.core;
+
+import org.celper.annotation.Column;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelImportTest {
+    static class DTO {
+        @Column("이름")
+        private String name;
+
+        @Column("번호")
+        private int number;
+
+        public DTO() {
+        }
+
+        public DTO(String name, int number) {
+            this.name = name;
+            this.number = number;
+        }
+    }
+
+    private ExcelSheet createSheet(int rowCount) {
+        ExcelSheet sheet = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        sheet.modelToSheet(DTO.class, IntStream.range(0, rowCount).mapToObj(i -> new DTO("name" + i, i)));
+        return sheet;
+    }
+
+    @Test
+    @DisplayName("병렬 변환 - 순차 변환과 같은 순서, 같은 결과")
+    void parallelImport() {
+        ExcelSheet sheet = createSheet(1000);
+        sheet.getSheet().removeRow(sheet.getSheet().getRow(50)); // 빈 행은 건너뜀
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<DTO> sequential = sheet.sheetToModel(DTO.class);
+            List<DTO> parallel = sheet.sheetToModel(DTO.class, new ImportOptions().parallel(executor).setParallelChunkSize(64));
+            assertEquals(999, parallel.size());
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(sequential.get(i).name, parallel.get(i).name);
+                assertEquals(sequential.get(i).number, parallel.get(i).number);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 변환 - 기본 commonPool 사용")
+    void commonPool() {
+        List<DTO> result = createSheet(10).sheetToModel(DTO.class, new ImportOptions().parallel());
+        assertEquals(10, result.size());
+        assertEquals(9, result.get(9).number);
+    }
+
+    @Test
+    @DisplayName("예외 IllegalArgumentException - parallelChunkSize 가 0 이하")
+    void invalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ImportOptions().setParallelChunkSize(0));
+    }
+
+    @Test
+    @DisplayName("예외 IllegalArgumentException - 병렬 변환을 지원하지 않는 stream / batch 방식")
+    void unsupportedParallel() throws Exception {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        sheet.modelToSheet(DTO.class, IntStream.range(0, 10).mapToObj(i -> new DTO("name" + i, i)));
+        ImportOptions parallel = new ImportOptions().parallel();
+
+        assertThrows(IllegalArgumentException.class, () -> sheet.sheetToModelStream(DTO.class, parallel));
+        assertThrows(IllegalArgumentException.class, () -> sheet.sheetToModel(DTO.class, parallel, 3, batch -> fail()));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        excelWorkBook.write(outputStream);
+        try (ExcelStreamReader reader = new ExcelStreamReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertThrows(IllegalArgumentException.class, () -> reader.sheetToModel(DTO.class, parallel));
+            assertThrows(IllegalArgumentException.class, () -> reader.sheetToModel(0, DTO.class, parallel, 3, batch -> fail()));
+            List<DTO> models = new ArrayList<>();
+            reader.sheetToModel(0, DTO.class, new ImportOptions(), 3, models :: addAll);
+            assertEquals(10, models.size());
+        }
+        try (CsvReader reader = new CsvReader(new StringReader("이름,번호\r\nname0,0\r\n"))) {
+            assertThrows(IllegalArgumentException.class, () -> reader.csvToModel(DTO.class, parallel));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.celper.annotation.Column;
+import org.celper.annotation.DefaultValue;
+import org.celper.core.structure.FieldAccessor;
+import org.celper.core.structure.Structure;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelinedExportTest {
+    static class DTO {
+        @Column("이름")
+        private String name;
+
+        @Column("번호")
+        private int number;
+
+        @Column("재학")
+        private boolean enrolled;
+
+        @Column("비고")
+        @DefaultValue("없음")
+        private String memo;
+
+        @Column("입학일")
+        private LocalDate admission;
+
+        public DTO(String name, int number) {
+            this.name = name;
+            this.number = number;
+            this.enrolled = number % 2 == 0;
+            this.memo = number % 3 == 0 ? null : "memo" + number;
+            this.admission = LocalDate.of(2020, 1, 1).plusDays(number);
+        }
+    }
+
+    static class CountingDTO {
+        @Column("번호")
+        int number;
+
+        CountingDTO(int number) {
+            this.number = number;
+        }
+    }
+
+    // executor 에서 필드를 읽은 횟수를 세고, number 가 0 이면 읽는 중에 실패하는 접근자를 쓰는 registrator
+    static StructureRegistrator countingRegistrator(AtomicInteger extracted) throws NoSuchFieldException {
+        FieldAccessor accessor = new FieldAccessor() {
+            @Override
+            public Object get(Object model) {
+                extracted.incrementAndGet();
+                int number = ((CountingDTO) model).number;
+                if (number == 0) {
+                    throw new IllegalStateException("fail");
+                }
+                return number;
+            }
+
+            @Override
+            public void set(Object model, Object value) {
+                ((CountingDTO) model).number = (Integer) value;
+            }
+        };
+        Field field = CountingDTO.class.getDeclaredField("number");
+        StructureRegistrator structureRegistrator = new StructureRegistrator();
+        structureRegistrator.put(CountingDTO.class,
+                Collections.singletonList(new Structure(CountingDTO.class, field, 0, fieldName -> accessor)));
+        return structureRegistrator;
+    }
+
+    // 첫 작업만 바로 실행하고 나머지는 run() 을 호출할 때까지 보관
+    static class HoldingExecutor implements Executor {
+        private final List<Runnable> held = new ArrayList<>();
+        private boolean runFirst;
+
+        HoldingExecutor(boolean runFirst) {
+            this.runFirst = runFirst;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (runFirst) {
+                runFirst = false;
+                command.run();
+                return;
+            }
+            held.add(command);
+        }
+
+        int runHeld() {
+            held.forEach(Runnable :: run);
+            return held.size();
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 추출 - 순차 기록과 같은 셀 값, 같은 행 순서")
+    void pipelinedExport() {
+        ExcelSheet sequential = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        ExcelSheet pipelined = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            sequential.modelToSheet(DTO.class, IntStream.range(0, 1000).mapToObj(i -> new DTO("name" + i, i)));
+            pipelined.modelToSheet(DTO.class, IntStream.range(0, 1000).mapToObj(i -> new DTO("name" + i, i)),
+                    new ExportOptions().parallel(executor).setParallelChunkSize(37).setQueueCapacity(3));
+        } finally {
+            executor.shutdown();
+        }
+
+        Sheet expected = sequential.getSheet();
+        Sheet actual = pipelined.getSheet();
+        assertEquals(expected.getLastRowNum(), actual.getLastRowNum());
+        for (int rowIdx = 0; rowIdx <= expected.getLastRowNum(); rowIdx++) {
+            Row expectedRow = expected.getRow(rowIdx);
+            Row actualRow = actual.getRow(rowIdx);
+            for (int colIdx = 0; colIdx < expectedRow.getLastCellNum(); colIdx++) {
+                assertEquals(expectedRow.getCell(colIdx).toString(), actualRow.getCell(colIdx).toString());
+                assertEquals(expectedRow.getCell(colIdx).getCellStyle().getDataFormatString(),
+                        actualRow.getCell(colIdx).getCellStyle().getDataFormatString());
+            }
+        }
+        assertEquals("없음", actual.getRow(1).getCell(3).getStringCellValue());
+    }
+
+    @Test
+    @DisplayName("병렬 추출 - executor 에서 필드를 읽다가 난 예외는 풀어서 전달하고, 남은 추출은 취소")
+    void exception() throws Exception {
+        AtomicInteger extracted = new AtomicInteger();
+        HoldingExecutor executor = new HoldingExecutor(true);
+        ExcelSheet sheet = new ExcelWorkBook(WorkBookType.XSSF, countingRegistrator(extracted)).createSheet();
+        ExportOptions exportOptions = new ExportOptions().parallel(executor).setParallelChunkSize(1).setQueueCapacity(4);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> sheet.modelToSheet(CountingDTO.class,
+                IntStream.range(0, 10).mapToObj(CountingDTO::new), exportOptions));
+        assertEquals("fail", exception.getMessage());
+
+        assertEquals(3, executor.runHeld());
+        assertEquals(1, extracted.get());
+    }
+
+    @Test
+    @DisplayName("병렬 추출 - 원본 iterator 의 예외에도 남은 추출은 취소")
+    void sourceException() throws Exception {
+        AtomicInteger extracted = new AtomicInteger();
+        HoldingExecutor executor = new HoldingExecutor(false);
+        ExcelSheet sheet = new ExcelWorkBook(WorkBookType.XSSF, countingRegistrator(extracted)).createSheet();
+        ExportOptions exportOptions = new ExportOptions().parallel(executor).setParallelChunkSize(1).setQueueCapacity(10);
+        Iterator<CountingDTO> source = IntStream.range(1, 10).mapToObj(i -> {
+            if (i == 4) {
+                throw new CancellationException();
+            }
+            return new CountingDTO(i);
+        }).iterator();
+
+        assertThrows(CancellationException.class, () -> sheet.modelToSheet(header -> false, CountingDTO.class, source, exportOptions));
+
+        assertEquals(3, executor.runHeld());
+        assertEquals(0, extracted.get());
+    }
+}
@@ -0,0 +1,117 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.celper.annotation.Column;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RolloverTest {
+    static class DTO {
+        @Column("번호")
+        private int number;
+
+        public DTO() {
+        }
+
+        public DTO(int number) {
+            this.number = number;
+        }
+    }
+
+    private static void assertRollover(Workbook workbook, String baseName) {
+        assertEquals(3, workbook.getNumberOfSheets());
+        assertEquals(baseName, workbook.getSheetName(0));
+        assertEquals(baseName + "_2", workbook.getSheetName(1));
+        assertEquals(baseName + "_3", workbook.getSheetName(2));
+        Sheet first = workbook.getSheetAt(0);
+        Sheet last = workbook.getSheetAt(2);
+        assertEquals(9, first.getLastRowNum());
+        assertEquals("번호", last.getRow(0).getCell(0).getStringCellValue());
+        assertEquals(first.getRow(0).getCell(0).getCellStyle().getIndex(), last.getRow(0).getCell(0).getCellStyle().getIndex());
+        assertEquals(24, last.getRow(7).getCell(0).getNumericCellValue());
+        assertEquals(7, last.getLastRowNum());
+    }
+
+    @Test
+    @DisplayName("최대 행 수에 닿으면 새 시트에 헤더를 다시 기록하고 이어서 기록")
+    void rollover() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        excelWorkBook.createSheet("학생").modelToSheet(header -> false, DTO.class,
+                IntStream.range(0, 25).mapToObj(DTO::new).iterator(), new ExportOptions().rollover(10));
+        assertRollover(excelWorkBook.getWorkbook(), "학생");
+    }
+
+    @Test
+    @DisplayName("병렬 추출에서도 같은 규칙으로 넘어감")
+    void parallelRollover() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.SXSSF);
+        excelWorkBook.createSheet("학생").modelToSheet(header -> false, DTO.class,
+                IntStream.range(0, 25).mapToObj(DTO::new).iterator(),
+                new ExportOptions().rollover(10).parallel().setParallelChunkSize(4));
+        Workbook workbook = excelWorkBook.getWorkbook();
+        assertEquals(3, workbook.getNumberOfSheets());
+        assertEquals("학생_3", workbook.getSheetName(2));
+    }
+
+    @Test
+    @DisplayName("ExcelStreamWriter 도 최대 행 수에 닿으면 새 시트로 넘어감")
+    void streamWriterRollover() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelStreamWriter writer = new ExcelStreamWriter(outputStream).setMaxRowsPerSheet(10)) {
+            writer.modelToSheet("학생", DTO.class, IntStream.range(0, 25).mapToObj(DTO::new));
+        }
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertRollover(workbook, "학생");
+        }
+    }
+
+    @Test
+    @DisplayName("시트 이름이 31자를 넘지 않도록 자름")
+    void sheetName() {
+        assertEquals("abc_2", RowCursor.sheetName("abc", 2));
+        assertEquals(31, RowCursor.sheetName("0123456789012345678901234567890", 12).length());
+    }
+
+    @Test
+    @DisplayName("이미 있는 이름은 건너뛰고 다음 번호 사용")
+    void nextSheetName() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        excelWorkBook.createSheet("학생_2");
+        assertEquals("학생_3", RowCursor.nextSheetName(excelWorkBook.getWorkbook(), "학생"));
+    }
+
+    @Test
+    @DisplayName("rollover 를 지정하지 않으면 workbook 형식의 최대 행 수에서도 넘어가지 않음")
+    void noRollover() {
+        int versionMaxRows = WorkBookType.HSSF.createWorkBook().getSpreadsheetVersion().getMaxRows();
+        ExcelWorkBook noRollover = new ExcelWorkBook(WorkBookType.HSSF);
+        assertThrows(IllegalArgumentException.class, () -> noRollover.createSheet("학생").modelToSheet(header -> false, DTO.class,
+                IntStream.range(0, versionMaxRows).mapToObj(DTO::new).iterator(), new ExportOptions()));
+        assertEquals(1, noRollover.getWorkbook().getNumberOfSheets());
+
+        ExcelWorkBook rollover = new ExcelWorkBook(WorkBookType.HSSF);
+        rollover.createSheet("학생").modelToSheet(header -> false, DTO.class,
+                IntStream.range(0, versionMaxRows).mapToObj(DTO::new).iterator(), new ExportOptions().rollover());
+        assertEquals(2, rollover.getWorkbook().getNumberOfSheets());
+        assertEquals(versionMaxRows - 1, rollover.getWorkbook().getSheetAt(0).getLastRowNum());
+        assertEquals(1, rollover.getWorkbook().getSheetAt(1).getLastRowNum());
+    }
+
+    @Test
+    @DisplayName("rollover 옵션 기본값과 최대 행 수 검증")
+    void rolloverOptions() {
+        assertEquals(0, new ExportOptions().getMaxRowsPerSheet());
+        assertFalse(new ExportOptions().isRollover());
+        assertThrows(IllegalArgumentException.class, () -> new ExportOptions().rollover(1));
+    }
+}
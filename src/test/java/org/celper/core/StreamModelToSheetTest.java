@@ -0,0 +1,84 @@
+package org.celper.core;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.celper.annotation.Column;
+import org.celper.exception.DataListEmptyException;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StreamModelToSheetTest {
+    static class DTO {
+        @Column("field1")
+        private String val1;
+
+        @Column("field2")
+        private int val2;
+
+        public DTO(String val1, int val2) {
+            this.val1 = val1;
+            this.val2 = val2;
+        }
+    }
+
+    @Test
+    @DisplayName("Iterator 로 한 행씩 꺼내서 기록")
+    void iteratorToSheet() {
+        Iterator<DTO> iterator = IntStream.range(0, 3).mapToObj(i -> new DTO("val" + i, i)).iterator();
+
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        sheet.modelToSheet(DTO.class, iterator);
+
+        Sheet result = sheet.getSheet();
+        assertEquals("field1", result.getRow(0).getCell(0).getStringCellValue());
+        assertEquals("field2", result.getRow(0).getCell(1).getStringCellValue());
+        assertEquals("val2", result.getRow(3).getCell(0).getStringCellValue());
+        assertEquals(2, result.getRow(3).getCell(1).getNumericCellValue());
+        assertNull(result.getRow(4));
+    }
+
+    @Test
+    @DisplayName("Stream 을 SXSSF 로 기록하면 윈도우 밖의 행은 flush 됨")
+    void streamToSxssfSheet() {
+        int rowCount = 1000;
+        Stream<DTO> stream = IntStream.range(0, rowCount).mapToObj(i -> new DTO("val" + i, i));
+
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.SXSSF);
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        sheet.modelToSheet(DTO.class, stream);
+
+        Sheet result = sheet.getSheet();
+        Row last = result.getRow(rowCount);
+        assertEquals("val" + (rowCount - 1), last.getCell(0).getStringCellValue());
+        assertNull(result.getRow(1));
+    }
+
+    @Test
+    @DisplayName("빈 Iterator 는 헤더만 기록")
+    void emptyIteratorToSheet() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        sheet.modelToSheet(DTO.class, Stream.<DTO>empty().spliterator());
+
+        assertEquals("field1", sheet.getSheet().getRow(0).getCell(0).getStringCellValue());
+        assertNull(sheet.getSheet().getRow(1));
+    }
+
+    @Test
+    @DisplayName("null Iterator - DataListEmptyException")
+    void nullIterator() {
+        ExcelSheet sheet = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        Iterator<DTO> iterator = null;
+        Assertions.assertThrows(DataListEmptyException.class, () -> sheet.modelToSheet(DTO.class, iterator));
+    }
+}
@@ -0,0 +1,106 @@
+package org.celper.core;
+
+import org.celper.annotation.Column;
+import org.celper.core.structure.Structure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructureRegistratorTest {
+    static class DTO1 {
+        @Column("field1")
+        private String val1;
+        private String notColumn;
+    }
+
+    static class DTO2 {
+        @Column("field1")
+        private String val1;
+    }
+
+    static class DTO3 {
+        @Column("field1")
+        private String val1;
+    }
+
+    @Test
+    @DisplayName("한 번 만든 Structure 를 재사용")
+    void memoize() {
+        StructureRegistrator structureRegistrator = new StructureRegistrator();
+        List<Structure> structures = structureRegistrator.getOrDefault(DTO1.class);
+        assertEquals(1, structures.size());
+        assertSame(structures, structureRegistrator.getOrDefault(DTO1.class));
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 조회해도 하나의 Structure 목록만 생성")
+    void concurrent() {
+        StructureRegistrator structureRegistrator = new StructureRegistrator();
+        Set<List<Structure>> results = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 1000).parallel().forEach(i -> results.add(structureRegistrator.getOrDefault(DTO1.class)));
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    @DisplayName("bounded - 최근에 사용하지 않은 클래스부터 제거")
+    void bounded() {
+        StructureRegistrator structureRegistrator = StructureRegistrator.bounded(2);
+        List<Structure> first = structureRegistrator.getOrDefault(DTO1.class);
+        structureRegistrator.getOrDefault(DTO2.class);
+        structureRegistrator.getOrDefault(DTO1.class);
+        List<Structure> second = structureRegistrator.getOrDefault(DTO2.class);
+        structureRegistrator.getOrDefault(DTO3.class);
+        structureRegistrator.getOrDefault(DTO2.class);
+
+        assertSame(second, structureRegistrator.getOrDefault(DTO2.class));
+        assertNotSame(first, structureRegistrator.getOrDefault(DTO1.class));
+    }
+
+    @Test
+    @DisplayName("weak key - add / remove")
+    void weakKeys() {
+        StructureRegistrator structureRegistrator = StructureRegistrator.weakKeys();
+        List<Structure> structures = structureRegistrator.getOrDefault(DTO1.class);
+        assertSame(structures, structureRegistrator.getOrDefault(DTO1.class));
+
+        structureRegistrator.add(DTO1.class);
+        List<Structure> added = structureRegistrator.getOrDefault(DTO1.class);
+        assertNotSame(structures, added);
+        assertSame(added, structureRegistrator.getOrDefault(DTO1.class));
+
+        structureRegistrator.remove(DTO1.class);
+        assertNotSame(added, structureRegistrator.getOrDefault(DTO1.class));
+    }
+
+    @Test
+    @DisplayName("weak key - 다른 스레드가 조회하는 중에 put 해도 put 한 목록을 돌려줌")
+    void weakKeysConcurrentPut() throws InterruptedException {
+        StructureRegistrator structureRegistrator = StructureRegistrator.weakKeys();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                structureRegistrator.getOrDefault(DTO1.class);
+            }
+        });
+        reader.start();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                List<Structure> structures = Collections.unmodifiableList(new ArrayList<>());
+                structureRegistrator.put(DTO1.class, structures);
+                assertSame(structures, structureRegistrator.getOrDefault(DTO1.class));
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.celper.core;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.celper.annotation.Column;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkbookOptionsTest {
+    static class DTO {
+        @Column("이름")
+        private String name;
+
+        public DTO() {
+        }
+
+        public DTO(int number) {
+            this.name = "name" + number % 10;
+        }
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("row access window 만큼만 메모리에 남김")
+    void rowAccessWindow() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.SXSSF, new WorkbookOptions().setRowAccessWindow(10));
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        sheet.modelToSheet(DTO.class, IntStream.range(0, 100).mapToObj(DTO::new).iterator());
+
+        assertNull(sheet.getSheet().getRow(50));
+        assertNotNull(sheet.getSheet().getRow(95));
+        excelWorkBook.dispose();
+    }
+
+    @Test
+    @DisplayName("워크북마다 지정한 디렉토리에 임시 파일을 만들고, 압축하면 gz 로 만듦")
+    void tempDirectory() throws Exception {
+        Path plain = tempDir.resolve("plain");
+        Path compressed = tempDir.resolve("compressed");
+        ExcelWorkBook plainWorkBook = new ExcelWorkBook(WorkBookType.SXSSF, new WorkbookOptions().setTempDirectory(plain));
+        ExcelWorkBook compressedWorkBook = new ExcelWorkBook(WorkBookType.SXSSF,
+                new WorkbookOptions().setTempDirectory(compressed).compressTempFiles(true));
+        plainWorkBook.createSheet().modelToSheet(DTO.class, IntStream.range(0, 500).mapToObj(DTO::new).iterator());
+        compressedWorkBook.createSheet().modelToSheet(DTO.class, IntStream.range(0, 500).mapToObj(DTO::new).iterator());
+
+        File[] plainFiles = plain.toFile().listFiles();
+        File[] compressedFiles = compressed.toFile().listFiles();
+        assertEquals(1, plainFiles.length);
+        assertTrue(plainFiles[0].getName().endsWith(".xml"));
+        assertEquals(1, compressedFiles.length);
+        assertTrue(compressedFiles[0].getName().endsWith(".gz"));
+        assertTrue(((SXSSFWorkbook) compressedWorkBook.getWorkbook()).isCompressTempFiles());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        compressedWorkBook.write(outputStream);
+        plainWorkBook.write(new ByteArrayOutputStream());
+        assertEquals(0, plain.toFile().listFiles().length);
+        assertEquals(0, compressed.toFile().listFiles().length);
+        try (ExcelStreamReader reader = new ExcelStreamReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(500, reader.sheetToModel(DTO.class).count());
+        }
+    }
+
+    @Test
+    @DisplayName("AUTO 가 SXSSF 로 바뀔 때도 같은 설정을 사용")
+    void autoSwitchUsesOptions() {
+        Path directory = tempDir.resolve("auto");
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.AUTO,
+                new WorkbookOptions().setAutoCellThreshold(100).setTempDirectory(directory).setRowAccessWindow(5));
+        excelWorkBook.createSheet().modelToSheet(DTO.class, IntStream.range(0, 300).mapToObj(DTO::new).iterator());
+
+        assertTrue(excelWorkBook.isStreaming());
+        assertEquals(1, directory.toFile().listFiles().length);
+        excelWorkBook.dispose();
+        assertEquals(0, directory.toFile().listFiles().length);
+    }
+
+    @Test
+    @DisplayName("sharedStrings 를 사용하면 같은 문자열을 한 번만 기록")
+    void sharedStrings() throws Exception {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.SXSSF, new WorkbookOptions().sharedStrings(true));
+        excelWorkBook.createSheet().modelToSheet(DTO.class, IntStream.range(0, 1000).mapToObj(DTO::new).iterator());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        excelWorkBook.write(outputStream);
+
+        try (OPCPackage pkg = OPCPackage.open(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(11, new XSSFReader(pkg).getSharedStringsTable().getUniqueCount()); // 헤더 + name0 ~ name9
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 값은 IllegalArgumentException")
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new WorkbookOptions().setRowAccessWindow(0));
+        assertThrows(IllegalArgumentException.class, () -> new WorkbookOptions().setAutoCellThreshold(0));
+        assertThrows(NullPointerException.class, () -> new WorkbookOptions().setTempDirectory(null));
+        new WorkbookOptions().setRowAccessWindow(-1);
+    }
+}
@@ -0,0 +1,92 @@
+package org.celper.core.structure;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.celper.annotation.Column;
+import org.celper.annotation.DefaultValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CellWritersTest {
+    static class DTO {
+        @Column("int")
+        private int intValue = 3;
+        @Column("boolean")
+        private boolean booleanValue = true;
+        @Column("float")
+        private Float floatValue = 1.1f;
+        @Column("short")
+        private Short shortValue = 7;
+        @Column("bigDecimal")
+        private BigDecimal bigDecimal = new BigDecimal("12.5");
+        @Column("localDateTime")
+        private LocalDateTime localDateTime = LocalDateTime.of(2020, 1, 2, 3, 4);
+        @Column("localTime")
+        private LocalTime localTime = LocalTime.NOON;
+        @Column("instant")
+        private Instant instant = Instant.ofEpochSecond(0);
+        @Column("null")
+        private String nullValue;
+        @Column("default")
+        @DefaultValue("empty")
+        private String defaultValue;
+    }
+
+    private Row row;
+
+    @BeforeEach
+    void setRow() {
+        this.row = new XSSFWorkbook().createSheet().createRow(0);
+    }
+
+    private Cell write(String fieldName, Object model) throws java.lang.NoSuchFieldException {
+        Structure structure = new Structure(DTO.class, DTO.class.getDeclaredField(fieldName), 0);
+        Cell cell = row.createCell(row.getPhysicalNumberOfCells());
+        CellWriters.of(structure).write(cell, model);
+        return cell;
+    }
+
+    @Test
+    @DisplayName("타입별 셀 기록 테스트")
+    void write() throws java.lang.NoSuchFieldException {
+        DTO dto = new DTO();
+        assertEquals(3, write("intValue", dto).getNumericCellValue());
+        assertEquals(true, write("booleanValue", dto).getBooleanCellValue());
+        assertEquals(1.1, write("floatValue", dto).getNumericCellValue());
+        assertEquals(7, write("shortValue", dto).getNumericCellValue());
+        assertEquals(12.5, write("bigDecimal", dto).getNumericCellValue());
+        assertEquals(LocalDateTime.of(2020, 1, 2, 3, 4), write("localDateTime", dto).getLocalDateTimeCellValue());
+        assertEquals(0.5, write("localTime", dto).getNumericCellValue());
+        assertEquals(Date.from(dto.instant), write("instant", dto).getDateCellValue());
+    }
+
+    @Test
+    @DisplayName("null 값은 기본값이 있을 때만 기록")
+    void writeNull() throws java.lang.NoSuchFieldException {
+        DTO dto = new DTO();
+        assertEquals(CellType.BLANK, write("nullValue", dto).getCellType());
+        assertEquals("empty", write("defaultValue", dto).getStringCellValue());
+        assertEquals("empty", write("defaultValue", null).getStringCellValue());
+        assertEquals(CellType.BLANK, write("intValue", null).getCellType());
+    }
+
+    @Test
+    @DisplayName("LocalDate 는 정오로 기록")
+    void writeLocalDate() {
+        Cell cell = row.createCell(0);
+        CellWriters.setValue(cell, LocalDate.of(2020, 1, 2));
+        assertEquals(LocalDateTime.of(2020, 1, 2, 12, 0), cell.getLocalDateTimeCellValue());
+    }
+}
@@ -0,0 +1,95 @@
+package org.celper.core.structure;
+
+import org.celper.annotation.Column;
+import org.celper.core.ExcelSheet;
+import org.celper.core.ExcelWorkBook;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldAccessorTest {
+    static class DTO {
+        private String name;
+        private int age;
+        private long id = Long.MAX_VALUE;
+        private char mark = 'A';
+        private final String fixed = "fixed";
+    }
+
+    static class StaticDTO {
+        @Column("구분")
+        private static String category = "학생";
+        @Column("점수")
+        private static int score = 90;
+        @Column("이름")
+        private String name = "홍길동";
+    }
+
+    @Test
+    @DisplayName("private 필드 get / set 테스트")
+    void getAndSet() throws java.lang.NoSuchFieldException {
+        FieldAccessor name = FieldAccessor.of(DTO.class.getDeclaredField("name"));
+        FieldAccessor age = FieldAccessor.of(DTO.class.getDeclaredField("age"));
+        DTO dto = new DTO();
+
+        name.set(dto, "홍길동");
+        age.set(dto, 20);
+
+        assertEquals("홍길동", name.get(dto));
+        assertEquals(20, age.get(dto));
+    }
+
+    @Test
+    @DisplayName("primitive long / char 필드 get 테스트")
+    void primitiveGetters() throws java.lang.NoSuchFieldException {
+        DTO dto = new DTO();
+        dto.age = 7;
+        assertEquals(Long.MAX_VALUE, FieldAccessor.of(DTO.class.getDeclaredField("id")).getLong(dto));
+        assertEquals(7L, FieldAccessor.of(DTO.class.getDeclaredField("age")).getLong(dto));
+        assertEquals('A', FieldAccessor.of(DTO.class.getDeclaredField("mark")).getChar(dto));
+    }
+
+    @Test
+    @DisplayName("final 필드 get 테스트")
+    void finalField() throws java.lang.NoSuchFieldException {
+        FieldAccessor fixed = FieldAccessor.of(DTO.class.getDeclaredField("fixed"));
+        assertEquals("fixed", fixed.get(new DTO()));
+    }
+
+    @Test
+    @DisplayName("null 모델 - NullPointerException")
+    void nullModel() throws java.lang.NoSuchFieldException {
+        FieldAccessor name = FieldAccessor.of(DTO.class.getDeclaredField("name"));
+        assertThrows(NullPointerException.class, () -> name.get(null));
+    }
+
+    @Test
+    @DisplayName("static 필드 get / set 테스트 - 모델 인자는 무시")
+    void staticField() throws java.lang.NoSuchFieldException {
+        FieldAccessor category = FieldAccessor.of(StaticDTO.class.getDeclaredField("category"));
+        FieldAccessor score = FieldAccessor.of(StaticDTO.class.getDeclaredField("score"));
+
+        assertEquals("학생", category.get(new StaticDTO()));
+        assertEquals(90, score.getDouble(null));
+        score.set(new StaticDTO(), 95);
+        assertEquals(95, score.get(new StaticDTO()));
+        score.set(null, 90);
+    }
+
+    @Test
+    @DisplayName("static @Column 필드도 기록")
+    void staticColumnExport() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        sheet.modelToSheet(Collections.singletonList(new StaticDTO()));
+
+        assertEquals("학생", sheet.getSheet().getRow(1).getCell(0).getStringCellValue());
+        assertEquals(90, sheet.getSheet().getRow(1).getCell(1).getNumericCellValue());
+        assertEquals("홍길동", sheet.getSheet().getRow(1).getCell(2).getStringCellValue());
+    }
+}
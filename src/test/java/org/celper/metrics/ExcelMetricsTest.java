@@ -0,0 +1,147 @@
+package org.celper.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.celper.annotation.Column;
+import org.celper.core.ExcelSheet;
+import org.celper.core.ExcelWorkBook;
+import org.celper.core.ImportOptions;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelMetricsTest {
+    static class DTO {
+        @Column("이름")
+        private String name;
+        @Column("나이")
+        private int age;
+
+        public DTO() {
+        }
+
+        public DTO(int number) {
+            this.name = "name" + number;
+            this.age = number;
+        }
+    }
+
+    static class RecordingMetrics implements ExcelMetrics {
+        final List<Phase> phases = new ArrayList<>();
+        final List<Class<?>> modelClasses = new ArrayList<>();
+        long rowWriteRows;
+        long rowWriteCells;
+        long mappingRows;
+        long bytes;
+
+        @Override
+        public void record(Phase phase, Class<?> modelClass, long elapsedNanos, long rows, long cells) {
+            assertTrue(elapsedNanos >= 0);
+            phases.add(phase);
+            modelClasses.add(modelClass);
+            if (phase == Phase.ROW_WRITE) {
+                rowWriteRows += rows;
+                rowWriteCells += cells;
+            }
+            if (phase == Phase.MAPPING) {
+                mappingRows += rows;
+            }
+        }
+
+        @Override
+        public void bytesWritten(long bytes) {
+            this.bytes += bytes;
+        }
+    }
+
+    @Test
+    @DisplayName("내보내기 단계를 순서대로 보고하고 행은 나눠서 보고")
+    void exportPhases() throws Exception {
+        RecordingMetrics metrics = new RecordingMetrics();
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF).setMetrics(metrics);
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        sheet.modelToSheet(IntStream.range(0, 3000).mapToObj(DTO::new).collect(Collectors.toList()));
+
+        assertEquals(Phase.STRUCTURE_RESOLUTION, metrics.phases.get(0));
+        assertEquals(Phase.STYLE_CREATION, metrics.phases.get(1));
+        assertEquals(Phase.HEADER_WRITE, metrics.phases.get(2));
+        assertEquals(3, metrics.phases.stream().filter(phase -> phase == Phase.ROW_WRITE).count());
+        assertEquals(3000, metrics.rowWriteRows);
+        assertEquals(6000, metrics.rowWriteCells);
+        assertTrue(metrics.modelClasses.stream().allMatch(DTO.class :: equals));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        excelWorkBook.write(outputStream);
+        assertEquals(Phase.WORKBOOK_WRITE, metrics.phases.get(metrics.phases.size() - 1));
+        assertNull(metrics.modelClasses.get(metrics.modelClasses.size() - 1));
+        assertEquals(outputStream.size(), metrics.bytes);
+    }
+
+    @Test
+    @DisplayName("가져오기는 헤더 탐색과 변환 단계를 보고")
+    void importPhases() {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        sheet.modelToSheet(IntStream.range(0, 100).mapToObj(DTO::new).collect(Collectors.toList()));
+
+        RecordingMetrics metrics = new RecordingMetrics();
+        excelWorkBook.setMetrics(metrics);
+        assertEquals(100, sheet.sheetToModel(DTO.class).size());
+        assertTrue(metrics.phases.contains(Phase.HEADER_DETECTION));
+        assertEquals(100, metrics.mappingRows);
+
+        metrics.mappingRows = 0;
+        sheet.sheetToModel(DTO.class, new ImportOptions().parallel());
+        assertEquals(100, metrics.mappingRows);
+    }
+
+    @Test
+    @DisplayName("Micrometer 에 모델 클래스와 단계 태그로 기록")
+    void micrometer() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.SXSSF).setMetrics(new MicrometerExcelMetrics(registry));
+        excelWorkBook.createSheet().modelToSheet(IntStream.range(0, 10).mapToObj(DTO::new).collect(Collectors.toList()));
+        excelWorkBook.write(new ByteArrayOutputStream());
+
+        assertEquals(1, registry.get(MicrometerExcelMetrics.PHASE_TIMER)
+                .tag("phase", "row_write").tag("model", DTO.class.getName()).timer().count());
+        assertEquals(10, registry.get(MicrometerExcelMetrics.ROWS_COUNTER)
+                .tag("phase", "row_write").counter().count());
+        assertEquals(20, registry.get(MicrometerExcelMetrics.CELLS_COUNTER)
+                .tag("phase", "row_write").counter().count());
+        assertEquals(1, registry.get(MicrometerExcelMetrics.PHASE_TIMER)
+                .tag("phase", "workbook_write").tag("model", "none").timer().count());
+        assertTrue(registry.get(MicrometerExcelMetrics.BYTES_SUMMARY).summary().totalAmount() > 0);
+    }
+
+    @Test
+    @DisplayName("단계 태그는 기본 로케일과 무관하고 같은 meter 를 재사용")
+    void micrometerLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            MicrometerExcelMetrics metrics = new MicrometerExcelMetrics(registry);
+            metrics.record(Phase.WORKBOOK_WRITE, null, 1, 0, 0);
+            metrics.record(Phase.WORKBOOK_WRITE, null, 1, 0, 0);
+            metrics.record(Phase.ROW_WRITE, DTO.class, 1, 3, 6);
+            metrics.record(Phase.ROW_WRITE, DTO.class, 1, 2, 4);
+
+            assertEquals(2, registry.get(MicrometerExcelMetrics.PHASE_TIMER)
+                    .tag("phase", "workbook_write").tag("model", "none").timer().count());
+            assertEquals(5, registry.get(MicrometerExcelMetrics.ROWS_COUNTER)
+                    .tag("phase", "row_write").tag("model", DTO.class.getName()).counter().count());
+            assertEquals(2, registry.get(MicrometerExcelMetrics.PHASE_TIMER).timers().size());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.celper.processor;
+
+import org.celper.core.StructureRegistrator;
+import org.celper.core.structure.FieldAccessor;
+import org.celper.core.structure.Structure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModelAccessorProcessorTest {
+    private static final String SOURCE = String.join("\n",
+            "package sample;",
+            "import org.celper.annotation.Column;",
+            "public class Member {",
+            "    @Column(\"이름\") String name;",
+            "    @Column(\"나이\") int age;",
+            "    @Column(\"활성\") boolean active;",
+            "    @Column(\"비고\") private String memo;",
+            "    @Column(\"점수\") private double score;",
+            "    @Column(\"코드\") private final String code = \"A\";",
+            "    @Column(\"구분\") private static String category = \"회원\";",
+            "}");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("생성된 접근자 - private / final / static 필드까지 모두 생성된 클래스로 접근")
+    void generatedAccessors() throws Exception {
+        try (URLClassLoader classLoader = compile()) {
+            Class<?> member = classLoader.loadClass("sample.Member");
+            assertNotNull(classLoader.loadClass("sample.Member_CelperAccessors"));
+
+            Map<String, FieldAccessor> accessors = new StructureRegistrator().getOrDefault(member)
+                    .stream()
+                    .collect(Collectors.toMap(Structure :: getFieldName, Structure :: getAccessor));
+            assertEquals(7, accessors.size());
+            accessors.values().forEach(accessor ->
+                    assertEquals("sample", accessor.getClass().getPackage().getName()));
+
+            Object model = member.getDeclaredConstructor().newInstance();
+            accessors.get("name").set(model, "홍길동");
+            accessors.get("age").set(model, 20);
+            accessors.get("active").set(model, true);
+            accessors.get("memo").set(model, "메모");
+            assertEquals("홍길동", accessors.get("name").get(model));
+            assertEquals(20d, accessors.get("age").getDouble(model));
+            assertEquals(20L, accessors.get("age").getLong(model));
+            assertTrue(accessors.get("active").getBoolean(model));
+            assertEquals("메모", accessors.get("memo").get(model));
+
+            accessors.get("score").set(model, 4.5);
+            assertEquals(4.5, accessors.get("score").getDouble(model));
+            assertEquals(4.5, accessors.get("score").get(model));
+            assertEquals("A", accessors.get("code").get(model));
+            accessors.get("code").set(model, "B");
+            assertEquals("B", accessors.get("code").get(model));
+            assertEquals("회원", accessors.get("category").get(model));
+            assertEquals("회원", accessors.get("category").get(null));
+            assertThrows(ClassCastException.class, () -> accessors.get("memo").set(model, 1));
+        }
+    }
+
+    private URLClassLoader compile() throws IOException {
+        Path sourceFile = tempDir.resolve("sample").resolve("Member.java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, SOURCE.getBytes(StandardCharsets.UTF_8));
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", ModelAccessorProcessor.class.getName(),
+                "-encoding", "UTF-8",
+                "-d", classes.toString(),
+                "-s", classes.toString(),
+                sourceFile.toString());
+        assertEquals(0, result);
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,204 @@
+package org.celper.reactive;
+
+import org.celper.annotation.Column;
+import org.celper.core.ExcelSheet;
+import org.celper.core.ExcelWorkBook;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveAdapterTest {
+    static class DTO {
+        @Column("번호")
+        private int number;
+
+        public DTO() {
+        }
+
+        public DTO(int number) {
+            this.number = number;
+        }
+    }
+
+    // 요청받은 만큼만 내보내고, 한 번에 요청된 최대 개수를 기록하는 publisher
+    static class RangePublisher implements Publisher<DTO> {
+        private final int count;
+        private long maxOutstanding;
+        private boolean cancelled;
+
+        RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super DTO> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                private long outstanding;
+                private int next;
+                private boolean emitting;
+
+                @Override
+                public void request(long n) {
+                    outstanding += n;
+                    maxOutstanding = Math.max(maxOutstanding, outstanding);
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (outstanding > 0 && next < count && !cancelled) {
+                        outstanding--;
+                        subscriber.onNext(new DTO(next++));
+                    }
+                    emitting = false;
+                    if (next == count && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    static class RecordingSubscriber implements Subscriber<DTO> {
+        final List<DTO> received = new ArrayList<>();
+        Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(DTO dto) {
+            received.add(dto);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+
+    @Test
+    @DisplayName("publisher 를 시트에 기록하고 batchSize 이상 요청하지 않음")
+    void subscribe() throws Exception {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        ExcelSheet sheet = excelWorkBook.createSheet();
+        RangePublisher publisher = new RangePublisher(1000);
+        SheetSubscriber<DTO> subscriber = new SheetSubscriber<>(sheet.modelWriter(DTO.class), 64);
+
+        publisher.subscribe(subscriber);
+
+        assertEquals(1000L, subscriber.getCompletion().get(10, TimeUnit.SECONDS));
+        assertTrue(publisher.maxOutstanding <= 64);
+        assertEquals(1000, sheet.getSheet().getLastRowNum());
+        assertEquals(999, sheet.getSheet().getRow(1000).getCell(0).getNumericCellValue());
+    }
+
+    @Test
+    @DisplayName("기록 중 예외가 나면 구독을 취소하고 completion 을 실패로 끝냄")
+    void subscribeFailure() {
+        RangePublisher publisher = new RangePublisher(100);
+        SheetSubscriber<DTO> subscriber = new SheetSubscriber<>(dto -> {
+            if (dto.number == 10) {
+                throw new IllegalStateException("write failed");
+            }
+        });
+
+        publisher.subscribe(subscriber);
+
+        assertTrue(publisher.cancelled);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> subscriber.getCompletion().get());
+        assertEquals("write failed", exception.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("시트를 요청한 만큼만 읽어서 내보냄")
+    void publish() {
+        ExcelSheet sheet = new ExcelWorkBook(WorkBookType.XSSF).createSheet();
+        sheet.modelToSheet(DTO.class, IntStream.range(0, 100).mapToObj(DTO::new));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        SheetPublisher.of(sheet, DTO.class).subscribe(subscriber);
+        assertTrue(subscriber.received.isEmpty());
+
+        subscriber.subscription.request(10);
+        assertEquals(10, subscriber.received.size());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(100, subscriber.received.size());
+        assertEquals(99, subscriber.received.get(99).number);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("취소하면 stream 을 닫고 더 이상 내보내지 않음")
+    void publishCancel() {
+        AtomicLong closed = new AtomicLong();
+        SheetPublisher<DTO> publisher = new SheetPublisher<>(() -> IntStream.range(0, 100).mapToObj(DTO::new)
+                .onClose(closed :: incrementAndGet));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(5);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(5);
+
+        assertEquals(5, subscriber.received.size());
+        assertEquals(1, closed.get());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("0 이하를 요청하면 IllegalArgumentException 으로 종료")
+    void publishInvalidRequest() {
+        SheetPublisher<DTO> publisher = new SheetPublisher<>(() -> Stream.of(new DTO(1)));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    @DisplayName("시트에서 시트로 backpressure 를 유지하며 옮김")
+    void sheetToSheet() throws Exception {
+        ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.XSSF);
+        ExcelSheet source = excelWorkBook.createSheet();
+        source.modelToSheet(DTO.class, IntStream.range(0, 500).mapToObj(DTO::new));
+        ExcelSheet target = excelWorkBook.createSheet();
+        SheetSubscriber<DTO> subscriber = SheetSubscriber.of(target, DTO.class);
+
+        SheetPublisher.of(source, DTO.class).subscribe(subscriber);
+
+        assertEquals(500L, subscriber.getCompletion().get(10, TimeUnit.SECONDS));
+        assertEquals(500, target.getSheet().getLastRowNum());
+    }
+}
@@ -5,8 +5,10 @@ import org.apache.poi.ss.usermodel.*;
 import java.io.*;
 
 public class TestSupport {
+    private static final String RESOURCES = String.join(File.separator, System.getProperty("user.dir"), "src", "test", "resources");
+
     public static OutputStream workBookOutput() {
-        StringBuilder stringBuilder = new StringBuilder(System.getProperty("user.dir")).append("\\src\\test\\resources");
+        StringBuilder stringBuilder = new StringBuilder(RESOURCES);
         stringBuilder.append(File.separator);
         try {
             return new FileOutputStream(stringBuilder.append("workbook.xlsx").toString());
@@ -17,7 +19,7 @@ public class TestSupport {
         }
     }
     public static OutputStream workBookOutput(String fileName) {
-        StringBuilder stringBuilder = new StringBuilder(System.getProperty("user.dir")).append("\\src\\test\\resources\\tutorial");
+        StringBuilder stringBuilder = new StringBuilder(RESOURCES).append(File.separator).append("tutorial");
         stringBuilder.append(File.separator);
         try {
             return new FileOutputStream(stringBuilder.append(fileName).toString());
@@ -28,7 +30,7 @@ public class TestSupport {
         }
     }
     public static Workbook workBookInput(String path) {
-        StringBuilder stringBuilder = new StringBuilder(System.getProperty("user.dir")).append("\\src\\test\\resources\\tutorial");
+        StringBuilder stringBuilder = new StringBuilder(RESOURCES).append(File.separator).append("tutorial");
         stringBuilder.append(File.separator);
         try (InputStream fileInput = new FileInputStream(stringBuilder.append(path).toString())) {
             return WorkbookFactory.create(fileInput);
@@ -41,7 +43,7 @@ public class TestSupport {
 
 
     public static Workbook workBookInput() {
-        StringBuilder stringBuilder = new StringBuilder(System.getProperty("user.dir")).append("\\src\\test\\resources\\");
+        StringBuilder stringBuilder = new StringBuilder(RESOURCES);
         stringBuilder.append(File.separator);
         try (InputStream fileInput = new FileInputStream(stringBuilder.append("workbook.xlsx").toString())) {
             return WorkbookFactory.create(fileInput);
@@ -0,0 +1,108 @@
+package org.celper.core;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.celper.annotation.Column;
+import org.celper.type.WorkBookType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class JfrSheetOperationTest {
+    private static final String EVENT_NAME = "org.celper.SheetOperation";
+
+    static class DTO {
+        @Column("이름")
+        private String name;
+        @Column("나이")
+        private int age;
+
+        public DTO() {
+        }
+
+        public DTO(int number) {
+            this.name = "name" + number;
+            this.age = number;
+        }
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void jfrAvailable() {
+        // jdk.jfr 이 없는 런타임에서는 건너뜀
+        boolean available;
+        try {
+            Class.forName("jdk.jfr.Event", false, JfrSheetOperationTest.class.getClassLoader());
+            available = true;
+        } catch (ClassNotFoundException e) {
+            available = false;
+        }
+        assumeTrue(available, "jdk.jfr is not available");
+    }
+
+    @Test
+    @DisplayName("기록 중이 아니면 이벤트를 만들지 않음")
+    void disabled() {
+        assertSame(SheetOperation.NONE, SheetOperations.begin("modelToSheet", DTO.class));
+    }
+
+    @Test
+    @DisplayName("시트 작업마다 모델, 시트 이름, 행/컬럼 수, 워크북 형식을 기록")
+    void events() throws Exception {
+        Path file = tempDir.resolve("sheet.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            ExcelWorkBook excelWorkBook = new ExcelWorkBook(WorkBookType.SXSSF);
+            ExcelSheet sheet = excelWorkBook.createSheet("학생");
+            sheet.modelToSheet(IntStream.range(0, 50).mapToObj(DTO::new).collect(Collectors.toList()));
+            ExcelWorkBook other = new ExcelWorkBook(WorkBookType.XSSF);
+            ExcelSheet otherSheet = other.createSheet("학생");
+            otherSheet.modelToSheet(IntStream.range(0, 30).mapToObj(DTO::new).collect(Collectors.toList()));
+            otherSheet.sheetToModel(DTO.class);
+            excelWorkBook.write(new ByteArrayOutputStream());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                .collect(Collectors.toList());
+        RecordedEvent export = find(events, "modelToSheet", "SXSSF").orElseThrow(AssertionError::new);
+        assertEquals(DTO.class.getName(), export.getClass("modelClass").getName());
+        assertEquals("학생", export.getString("sheetName"));
+        assertEquals(50, export.getLong("rows"));
+        assertEquals(2, export.getInt("columns"));
+
+        RecordedEvent read = find(events, "sheetToModel", "XSSF").orElseThrow(AssertionError::new);
+        assertEquals(30, read.getLong("rows"));
+
+        RecordedEvent write = find(events, "write", "SXSSF").orElseThrow(AssertionError::new);
+        assertNull(write.getClass("modelClass"));
+        assertTrue(write.getLong("bytesWritten") > 0);
+    }
+
+    private Optional<RecordedEvent> find(List<RecordedEvent> events, String operation, String workbookType) {
+        return events.stream()
+                .filter(event -> operation.equals(event.getString("operation")))
+                .filter(event -> workbookType.equals(event.getString("workbookType")))
+                .findFirst();
+    }
+}